@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TaskManager;
+import seedu.address.model.task.Task;
+import seedu.address.storage.BinaryFileStorage;
+import seedu.address.storage.XmlStreamFileStorage;
+
+/**
+ * Benchmarks loading a task manager from an XML file against loading it from a binary file, and reading a single
+ * task from the binary file without decoding the rest. The sizes of both files are printed when they are created.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryStorageBenchmark {
+
+    @Param({"100000"})
+    private int taskCount;
+
+    private Path xmlFilePath;
+    private Path binaryFilePath;
+
+    @Setup
+    public void setUp() throws IOException {
+        xmlFilePath = Files.createTempFile("taskmanager", ".xml");
+        binaryFilePath = Files.createTempFile("taskmanager", ".bin");
+        TaskManager data = SyntheticData.generateTaskManager(taskCount);
+        XmlStreamFileStorage.saveDataToFile(xmlFilePath, data);
+        BinaryFileStorage.saveDataToFile(binaryFilePath, data);
+        System.out.println("XML file: " + Files.size(xmlFilePath) + " bytes, binary file: "
+                + Files.size(binaryFilePath) + " bytes");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(xmlFilePath);
+        Files.deleteIfExists(binaryFilePath);
+    }
+
+    @Benchmark
+    public TaskManager loadXml() throws DataConversionException, IllegalValueException, IOException {
+        return XmlStreamFileStorage.loadDataFromSaveFile(xmlFilePath);
+    }
+
+    @Benchmark
+    public TaskManager loadBinary() throws DataConversionException, IllegalValueException, IOException {
+        return BinaryFileStorage.loadDataFromSaveFile(binaryFilePath);
+    }
+
+    /**
+     * Maps the binary file and decodes only its last task.
+     */
+    @Benchmark
+    public Task openBinaryAndReadLastTask() throws DataConversionException, IllegalValueException, IOException {
+        return BinaryFileStorage.open(binaryFilePath).getTask(taskCount - 1);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.benchmark;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.DueDate;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.DateFormatUtil;
+import seedu.address.storage.XmlAdaptedTask;
+
+/**
+ * Benchmarks loading the due dates of tasks read from an XML file, with the {@code SimpleDateFormat} validation and
+ * parsing {@code DateFormatUtil} used to do, against the single-pass {@code java.time} parsing it does now.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateFormatUtilBenchmark {
+
+    @Param({"100000"})
+    private int taskCount;
+
+    private List<XmlAdaptedTask> xmlTasks;
+    private List<String> dueDates;
+    private SimpleDateFormat formatMinimal;
+    private SimpleDateFormat formatStandard;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = SyntheticData.generateTasks(taskCount);
+        xmlTasks = tasks.stream().map(XmlAdaptedTask::new).collect(Collectors.toList());
+        dueDates = tasks.stream().map(task -> task.getDueDate().value).collect(Collectors.toList());
+        formatMinimal = createDateFormat(DateFormatUtil.DATE_FORMAT_MINIMAL);
+        formatStandard = createDateFormat(DateFormatUtil.DATE_FORMAT_STANDARD);
+    }
+
+    /**
+     * Validates and then parses every due date the way {@code DateFormatUtil} did with {@code SimpleDateFormat}.
+     */
+    @Benchmark
+    public List<Date> parseWithSimpleDateFormat() throws ParseException {
+        List<Date> dates = new ArrayList<>(dueDates.size());
+        for (String dueDate : dueDates) {
+            if (!isValidDate(dueDate)) {
+                throw new IllegalArgumentException(dueDate);
+            }
+            dates.add(isValidDate(dueDate, formatStandard, DateFormatUtil.DATE_FORMAT_STANDARD_REGEX)
+                    ? formatStandard.parse(dueDate)
+                    : formatMinimal.parse(dueDate));
+        }
+        return dates;
+    }
+
+    @Benchmark
+    public List<DueDate> parseWithDateFormatUtil() {
+        List<DueDate> parsed = new ArrayList<>(dueDates.size());
+        for (String dueDate : dueDates) {
+            parsed.add(new DueDate(dueDate));
+        }
+        return parsed;
+    }
+
+    @Benchmark
+    public List<Task> loadXmlAdaptedTasks() throws IllegalValueException {
+        List<Task> tasks = new ArrayList<>(xmlTasks.size());
+        for (XmlAdaptedTask xmlTask : xmlTasks) {
+            tasks.add(xmlTask.toModelType());
+        }
+        return tasks;
+    }
+
+    /**
+     * Loads the tasks on several threads at once, which the shared {@code SimpleDateFormat}s did not allow.
+     */
+    @Benchmark
+    public List<DueDate> parseWithDateFormatUtilInParallel() {
+        return dueDates.parallelStream().map(DueDate::new).collect(Collectors.toList());
+    }
+
+    private boolean isValidDate(String test) {
+        return isValidDate(test, formatMinimal, DateFormatUtil.DATE_FORMAT_MINIMAL_REGEX)
+                || isValidDate(test, formatStandard, DateFormatUtil.DATE_FORMAT_STANDARD_REGEX);
+    }
+
+    /**
+     * Returns true if {@code test} is parsed by {@code format} and matches {@code regex}.
+     */
+    private static boolean isValidDate(String test, SimpleDateFormat format, String regex) {
+        try {
+            format.parse(test);
+        } catch (ParseException e) {
+            return false;
+        }
+        return test.matches(regex);
+    }
+
+    private static SimpleDateFormat createDateFormat(String template) {
+        SimpleDateFormat format = new SimpleDateFormat(template);
+        format.setLenient(false);
+        return format;
+    }
+}
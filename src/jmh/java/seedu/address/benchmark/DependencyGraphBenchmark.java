@@ -0,0 +1,61 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.DependencyGraph;
+import seedu.address.model.task.Task;
+
+/**
+ * Benchmarks building a {@code DependencyGraph} and the queries made on it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependencyGraphBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    private List<Task> tasks;
+    private DependencyGraph graph;
+
+    @Setup
+    public void setUp() {
+        tasks = SyntheticData.generateTasks(taskCount);
+        graph = new DependencyGraph(tasks);
+    }
+
+    /**
+     * Builds the graph from scratch, including the check for cycles.
+     */
+    @Benchmark
+    public DependencyGraph construct() {
+        return new DependencyGraph(tasks);
+    }
+
+    @Benchmark
+    public List<Long> topologicalSort() {
+        return graph.topologicalSort();
+    }
+
+    @Benchmark
+    public boolean checkCyclicDependency() {
+        return graph.checkCyclicDependency(tasks.get(0), tasks.get(taskCount - 1));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.TaskManager;
+import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Task;
+
+/**
+ * Benchmarks finding tasks by keyword by testing the words of every task, as {@code find} used to, against looking
+ * the keywords up in the keyword index of the task manager and testing the ids of the tasks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindBenchmark {
+
+    private static final List<String> KEYWORDS = Arrays.asList("4242", "label7", "Missing");
+
+    @Param({"100000"})
+    private int taskCount;
+
+    private TaskManager taskManager;
+
+    @Setup
+    public void setUp() {
+        taskManager = SyntheticData.generateTaskManager(taskCount);
+    }
+
+    /**
+     * Filters the tasks the way {@code find} did before the keyword index, which only searched names.
+     */
+    @Benchmark
+    public long findByScanningNames() {
+        return taskManager.getTaskList().stream().filter(new NameContainsKeywordsPredicate(KEYWORDS)).count();
+    }
+
+    /**
+     * Filters the tasks with the keyword index, which also covers descriptions and labels.
+     */
+    @Benchmark
+    public long findWithIndex() {
+        Set<Long> ids = taskManager.getIdsOfTasksWithAnyKeyword(KEYWORDS);
+        return taskManager.getTaskList().stream().filter(task -> ids.contains(task.getId())).count();
+    }
+
+    /**
+     * Edits a task, which updates the keyword index along with the task list.
+     */
+    @Benchmark
+    public TaskManager editTask() {
+        Task task = taskManager.getTaskList().get(0);
+        taskManager.updateTask(task, task);
+        return taskManager;
+    }
+}
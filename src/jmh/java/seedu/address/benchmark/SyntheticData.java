@@ -0,0 +1,92 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.TaskManager;
+import seedu.address.model.tag.Label;
+import seedu.address.model.task.Dependencies;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.DueDate;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.PriorityValue;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+
+/**
+ * Generates task managers of any size for the benchmarks.
+ * The data is generated from a fixed seed, so every run of a benchmark works on the same data.
+ */
+public class SyntheticData {
+
+    private static final long SEED = 2103L;
+    private static final int LABEL_COUNT = 20;
+    private static final int MAX_LABELS_PER_TASK = 2;
+    private static final int MAX_DEPENDENCIES_PER_TASK = 2;
+    private static final double COMPLETED_RATIO = 0.3;
+
+    private SyntheticData() {}
+
+    /**
+     * Returns {@code count} tasks with unique names, random due dates, priority values and labels.
+     * Each task is dependent on up to two tasks before it, so the dependencies never form a cycle, and completed
+     * tasks are only dependent on completed tasks, so the dependencies are valid.
+     */
+    public static List<Task> generateTasks(int count) {
+        Random random = new Random(SEED);
+        List<Task> tasks = new ArrayList<>(count);
+        List<Task> completedTasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean isCompleted = random.nextDouble() < COMPLETED_RATIO;
+            List<Task> candidateDependees = isCompleted ? completedTasks : tasks;
+
+            Set<Long> dependencyIds = new HashSet<>();
+            int dependencyCount = candidateDependees.isEmpty() ? 0 : random.nextInt(MAX_DEPENDENCIES_PER_TASK + 1);
+            for (int j = 0; j < dependencyCount; j++) {
+                dependencyIds.add(candidateDependees.get(random.nextInt(candidateDependees.size())).getId());
+            }
+
+            Task task = new Task(i + 1, new Name("Task " + i), generateDueDate(random),
+                    new PriorityValue(Integer.toString(1 + random.nextInt(9998))),
+                    new Description("Synthetic task number " + i), generateLabels(random),
+                    isCompleted ? Status.COMPLETED : Status.IN_PROGRESS, new Dependencies(dependencyIds));
+            tasks.add(task);
+            if (isCompleted) {
+                completedTasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns a task manager with {@code count} tasks from {@link #generateTasks(int)}.
+     */
+    public static TaskManager generateTaskManager(int count) {
+        TaskManager taskManager = new TaskManager();
+        taskManager.setTasks(generateTasks(count));
+        return taskManager;
+    }
+
+    /**
+     * Returns a due date in the years 2019 to 2021.
+     */
+    private static DueDate generateDueDate(Random random) {
+        return new DueDate(String.format("%02d-%02d-%d %02d%02d", 1 + random.nextInt(28), 1 + random.nextInt(12),
+                2019 + random.nextInt(3), random.nextInt(24), random.nextInt(60)));
+    }
+
+    /**
+     * Returns up to two labels out of a pool of {@code LABEL_COUNT} labels.
+     */
+    private static Set<Label> generateLabels(Random random) {
+        Set<Label> labels = new HashSet<>();
+        int labelCount = random.nextInt(MAX_LABELS_PER_TASK + 1);
+        for (int i = 0; i < labelCount; i++) {
+            labels.add(new Label("label" + random.nextInt(LABEL_COUNT)));
+        }
+        return labels;
+    }
+}
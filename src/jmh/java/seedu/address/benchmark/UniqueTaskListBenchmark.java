@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.task.Dependencies;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.DueDate;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.PriorityValue;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.UniqueTaskList;
+
+/**
+ * Benchmarks adding, replacing and removing a task in a {@code UniqueTaskList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueTaskListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    private UniqueTaskList uniqueTaskList;
+    private Task existingTask;
+    private Task editedTask;
+    private Task newTask;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = SyntheticData.generateTasks(taskCount);
+        uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.setTasks(tasks);
+        existingTask = tasks.get(taskCount / 2);
+        editedTask = new Task(existingTask.getId(), existingTask.getName(), existingTask.getDueDate(),
+                existingTask.getPriorityValue(), new Description("Edited description"), existingTask.getLabels(),
+                existingTask.getStatus(), existingTask.getDependencies());
+        newTask = new Task(taskCount + 1, new Name("New task"), new DueDate("01-01-2030"), new PriorityValue("1"),
+                new Description("New task"), Collections.emptySet(), Status.IN_PROGRESS,
+                new Dependencies());
+    }
+
+    /**
+     * Adds a task and removes it again, so the list is the same size for every invocation.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        uniqueTaskList.add(newTask);
+        uniqueTaskList.remove(newTask);
+    }
+
+    /**
+     * Replaces a task with an edited copy and back again.
+     */
+    @Benchmark
+    public void setTask() {
+        uniqueTaskList.setTask(existingTask, editedTask);
+        uniqueTaskList.setTask(editedTask, existingTask);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return uniqueTaskList.contains(newTask);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.TaskManager;
+import seedu.address.model.VersionedTaskManager;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Task;
+
+/**
+ * Benchmarks committing an edit to a {@code VersionedTaskManager}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionedTaskManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    private TaskManager initialState;
+    private VersionedTaskManager versionedTaskManager;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        initialState = SyntheticData.generateTaskManager(taskCount);
+    }
+
+    /**
+     * Starts every invocation from a fresh history with one edit made, as the history grows with every commit.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        versionedTaskManager = new VersionedTaskManager(initialState);
+        Task target = versionedTaskManager.getTaskList().get(taskCount / 2);
+        Task editedTask = new Task(target.getId(), target.getName(), target.getDueDate(), target.getPriorityValue(),
+                new Description("Edited description"), target.getLabels(), target.getStatus(),
+                target.getDependencies());
+        versionedTaskManager.updateTask(target, editedTask);
+    }
+
+    /**
+     * Commits the edit made in {@link #setUpInvocation()}.
+     */
+    @Benchmark
+    public VersionedTaskManager commit() {
+        versionedTaskManager.commit();
+        return versionedTaskManager;
+    }
+}
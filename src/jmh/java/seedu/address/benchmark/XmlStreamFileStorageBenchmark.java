@@ -0,0 +1,81 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TaskManager;
+import seedu.address.storage.XmlFileStorage;
+import seedu.address.storage.XmlSerializableTaskManager;
+import seedu.address.storage.XmlStreamFileStorage;
+
+/**
+ * Benchmarks the memory-mapped read and direct buffer write of {@code XmlStreamFileStorage}, against reading and
+ * saving the same file with JAXB through the streams it opens on a {@code File}, as {@code XmlFileStorage} does.
+ * The size of the file, which is the number of bytes each read or save moves, is printed when it is created.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlStreamFileStorageBenchmark {
+
+    @Param({"100000"})
+    private int taskCount;
+
+    private Path filePath;
+    private TaskManager taskManager;
+    private XmlSerializableTaskManager data;
+
+    @Setup
+    public void setUp() throws IOException {
+        filePath = Files.createTempFile("taskmanager", ".xml");
+        taskManager = SyntheticData.generateTaskManager(taskCount);
+        data = new XmlSerializableTaskManager(taskManager);
+        XmlStreamFileStorage.saveDataToFile(filePath, taskManager);
+        System.out.println("XML file: " + Files.size(filePath) + " bytes");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Benchmark
+    public void saveThroughJaxb() throws IOException {
+        XmlFileStorage.saveDataToFile(filePath, data);
+    }
+
+    @Benchmark
+    public void saveThroughDirectBuffer() throws IOException {
+        XmlStreamFileStorage.saveDataToFile(filePath, taskManager);
+    }
+
+    @Benchmark
+    public XmlSerializableTaskManager readThroughJaxb() throws DataConversionException, IOException {
+        return XmlFileStorage.loadDataFromSaveFile(filePath);
+    }
+
+    @Benchmark
+    public TaskManager readMapped() throws DataConversionException, IllegalValueException, IOException {
+        return XmlStreamFileStorage.loadDataFromSaveFile(filePath);
+    }
+}
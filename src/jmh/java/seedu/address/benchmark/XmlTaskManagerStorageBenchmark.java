@@ -0,0 +1,76 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskManager;
+import seedu.address.model.TaskManager;
+import seedu.address.storage.XmlTaskManagerStorage;
+
+/**
+ * Benchmarks saving a task manager to and reading it back from an XML file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlTaskManagerStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    private Path filePath;
+    private XmlTaskManagerStorage storage;
+    private TaskManager taskManager;
+
+    @Setup
+    public void setUp() throws IOException {
+        filePath = Files.createTempFile("taskmanager", ".xml");
+        storage = new XmlTaskManagerStorage(filePath);
+        taskManager = SyntheticData.generateTaskManager(taskCount);
+        storage.saveTaskManager(taskManager);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveTaskManager(taskManager);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyTaskManager> read() throws DataConversionException, IOException {
+        return storage.readTaskManager();
+    }
+
+    /**
+     * Saves the task manager and reads it back.
+     */
+    @Benchmark
+    public Optional<ReadOnlyTaskManager> roundTrip() throws DataConversionException, IOException {
+        storage.saveTaskManager(taskManager);
+        return storage.readTaskManager();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.storage.XmlSerializableTaskManager;
+
+/**
+ * Benchmarks saving a task manager to an XML file with a new {@code JAXBContext} for every save, as
+ * {@code XmlUtil} used to, against saving it with the context and marshallers cached by {@code XmlUtil}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlUtilBenchmark {
+
+    @Param({"10000"})
+    private int taskCount;
+
+    private Path filePath;
+    private XmlSerializableTaskManager data;
+
+    @Setup
+    public void setUp() throws IOException, JAXBException {
+        filePath = Files.createTempFile("taskmanager", ".xml");
+        data = new XmlSerializableTaskManager(SyntheticData.generateTaskManager(taskCount));
+        XmlUtil.saveDataToFile(filePath, data);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Saves the data the way {@code XmlUtil#saveDataToFile} did before contexts were cached.
+     */
+    @Benchmark
+    public void saveWithNewContext() throws JAXBException {
+        JAXBContext context = JAXBContext.newInstance(XmlSerializableTaskManager.class);
+        Marshaller m = context.createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        m.marshal(data, filePath.toFile());
+    }
+
+    @Benchmark
+    public void saveWithCachedContext() throws IOException, JAXBException {
+        XmlUtil.saveDataToFile(filePath, data);
+    }
+
+    /**
+     * Reads the data the way {@code XmlUtil#getDataFromFile} did before contexts were cached.
+     */
+    @Benchmark
+    public Object readWithNewContext() throws JAXBException {
+        JAXBContext context = JAXBContext.newInstance(XmlSerializableTaskManager.class);
+        return context.createUnmarshaller().unmarshal(filePath.toFile());
+    }
+
+    @Benchmark
+    public XmlSerializableTaskManager readWithCachedContext() throws IOException, JAXBException {
+        return XmlUtil.getDataFromFile(filePath, XmlSerializableTaskManager.class);
+    }
+}
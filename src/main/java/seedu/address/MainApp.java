@@ -26,6 +26,8 @@ import seedu.address.model.ReadOnlyTaskManager;
 import seedu.address.model.TaskManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryTaskManagerStorage;
+import seedu.address.storage.JournalTaskManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -50,10 +52,14 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected OverdueScheduler overdueScheduler;
 
+    // When initializing began, to report how long the window takes to be shown and the tasks to be loaded
+    private long initStartNanos;
 
     @Override
     public void init() throws Exception {
+        initStartNanos = System.nanoTime();
         logger.info("=============================[ Initializing TaskManager ]===========================");
         super.init();
 
@@ -62,26 +68,58 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        TaskManagerStorage taskManagerStorage = new XmlTaskManagerStorage(userPrefs.getTaskManagerFilePath());
+        TaskManagerStorage taskManagerStorage = initTaskManagerStorage(userPrefs);
         storage = new StorageManager(taskManagerStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model);
+        if (userPrefs.isFastStart()) {
+            // The tasks are loaded once the window is shown, and commands entered before then wait for them
+            model = new ModelManager(new TaskManager(), userPrefs);
+            logic = new LogicManager(model);
+            logic.queueCommands();
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model);
+        }
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
     }
 
+    /**
+     * Returns a {@code TaskManagerStorage} for the data file and storage format in {@code userPrefs}.
+     */
+    private TaskManagerStorage initTaskManagerStorage(UserPrefs userPrefs) {
+        switch (userPrefs.getTaskManagerStorageFormat()) {
+        case JOURNAL:
+            return new JournalTaskManagerStorage(userPrefs.getTaskManagerFilePath());
+        case BINARY:
+            return new BinaryTaskManagerStorage(
+                    BinaryTaskManagerStorage.getBinaryFilePath(userPrefs.getTaskManagerFilePath()),
+                    userPrefs.getTaskManagerFilePath());
+        case XML:
+        default:
+            return new XmlTaskManagerStorage(userPrefs.getTaskManagerFilePath());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        return new ModelManager(readTaskManager(storage), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s task manager. <br>
+     * The data from the sample task manager will be used instead if {@code storage}'s task manager is not found,
+     * or an empty task manager will be used instead if errors occur when reading {@code storage}'s task manager.
+     */
+    private ReadOnlyTaskManager readTaskManager(Storage storage) {
         Optional<ReadOnlyTaskManager> taskManagerOptional;
         ReadOnlyTaskManager initialData;
         try {
@@ -97,8 +135,7 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty TaskManager");
             initialData = new TaskManager();
         }
-
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -181,12 +218,42 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TaskManager " + MainApp.VERSION);
         ui.start(primaryStage);
+        // Runs after the window that has just been shown is first drawn
+        Platform.runLater(() -> logTimeSinceInit("Time to first paint"));
+
+        if (!userPrefs.isFastStart()) {
+            startOverdueScheduler();
+            logTimeSinceInit("Time to fully loaded");
+            return;
+        }
+        new TaskManagerLoader(() -> readTaskManager(storage), model).load(() -> {
+            logTimeSinceInit("Time to fully loaded");
+            logic.executeQueuedCommands();
+            startOverdueScheduler();
+        });
+    }
+
+    /**
+     * Starts marking tasks as overdue as their due dates pass.
+     * In fast start, this waits for the tasks to be loaded, so that the task manager is not saved before then.
+     */
+    private void startOverdueScheduler() {
+        overdueScheduler = new OverdueScheduler(model);
+        overdueScheduler.start();
+    }
+
+    private void logTimeSinceInit(String description) {
+        logger.info(description + ": " + (System.nanoTime() - initStartNanos) / 1_000_000 + " ms");
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Task Manager ] =============================");
+        if (overdueScheduler != null) {
+            overdueScheduler.stop();
+        }
         ui.stop();
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
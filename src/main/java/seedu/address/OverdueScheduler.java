@@ -0,0 +1,43 @@
+package seedu.address;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+import seedu.address.model.Model;
+
+/**
+ * Checks the model for tasks that have become overdue at a fixed interval, so that tasks are shown as overdue once
+ * their due dates pass, even if no command is entered.
+ * The checks run on the JavaFX application thread, like commands, and each check only takes the tasks that have
+ * become overdue from the model, so checking often is cheap. The model only keeps the tasks in order of due date,
+ * so that it does not depend on the JavaFX toolkit for the timing.
+ */
+public class OverdueScheduler {
+
+    public static final long DEFAULT_CHECK_INTERVAL_MILLIS = 1000;
+
+    private final Timeline timeline;
+
+    public OverdueScheduler(Model model) {
+        this(model, DEFAULT_CHECK_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Creates an {@code OverdueScheduler} that checks {@code model} every {@code checkIntervalMillis} milliseconds
+     * once started.
+     */
+    public OverdueScheduler(Model model, long checkIntervalMillis) {
+        assert checkIntervalMillis > 0;
+        timeline = new Timeline(new KeyFrame(Duration.millis(checkIntervalMillis), event -> model.checkOverdue()));
+        timeline.setCycleCount(Animation.INDEFINITE);
+    }
+
+    public void start() {
+        timeline.play();
+    }
+
+    public void stop() {
+        timeline.stop();
+    }
+}
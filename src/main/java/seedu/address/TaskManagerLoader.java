@@ -0,0 +1,117 @@
+package seedu.address;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskManager;
+import seedu.address.model.TaskManager;
+import seedu.address.model.task.Task;
+
+/**
+ * Loads the task manager data into a model that is already shown, for starting without waiting for the data.
+ * The data is read on a background thread. Its tasks are then added to the model on the JavaFX application thread
+ * a page at a time, so that the task list panel fills up page by page while the window keeps responding.
+ * If the data cannot be read or added, the model is left with an empty TaskManager, and the loading still finishes.
+ */
+public class TaskManagerLoader {
+
+    public static final int PAGE_SIZE = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(TaskManagerLoader.class);
+
+    private final Supplier<ReadOnlyTaskManager> dataSource;
+    private final Model model;
+    private final Executor backgroundExecutor;
+    private final Executor applicationThreadExecutor;
+
+    /**
+     * Creates a loader that reads the data from {@code dataSource} on a new thread and adds it to {@code model} on
+     * the JavaFX application thread.
+     */
+    public TaskManagerLoader(Supplier<ReadOnlyTaskManager> dataSource, Model model) {
+        this(dataSource, model, TaskManagerLoader::runOnNewThread, Platform::runLater);
+    }
+
+    /**
+     * Creates a loader that reads the data from {@code dataSource} with {@code backgroundExecutor} and adds it to
+     * {@code model} with {@code applicationThreadExecutor}, a page at a time.
+     */
+    public TaskManagerLoader(Supplier<ReadOnlyTaskManager> dataSource, Model model, Executor backgroundExecutor,
+                             Executor applicationThreadExecutor) {
+        this.dataSource = dataSource;
+        this.model = model;
+        this.backgroundExecutor = backgroundExecutor;
+        this.applicationThreadExecutor = applicationThreadExecutor;
+    }
+
+    /**
+     * Starts loading the data, and runs {@code onLoaded} on the application thread once all of it is in the model,
+     * or once the model has been left empty because the data could not be loaded.
+     */
+    public void load(Runnable onLoaded) {
+        backgroundExecutor.execute(() -> {
+            ReadOnlyTaskManager data = readData();
+            List<Task> tasks = new ArrayList<>(data.getTaskList());
+            logger.info("Read " + tasks.size() + " tasks, adding them " + PAGE_SIZE + " at a time");
+            applicationThreadExecutor.execute(() -> addPage(data, tasks, 0, onLoaded));
+        });
+    }
+
+    /**
+     * Returns the data from the data source, or an empty TaskManager if it cannot be read.
+     */
+    private ReadOnlyTaskManager readData() {
+        try {
+            return dataSource.get();
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected exception while reading the data, starting with an empty TaskManager: "
+                    + StringUtil.getDetails(e));
+            return new TaskManager();
+        }
+    }
+
+    /**
+     * Adds the page of {@code tasks} starting at {@code from} to the model, and queues the next page after any
+     * events already waiting on the application thread, or finishes the loading if there are no more pages.
+     */
+    private void addPage(ReadOnlyTaskManager data, List<Task> tasks, int from, Runnable onLoaded) {
+        int to = Math.min(from + PAGE_SIZE, tasks.size());
+        try {
+            model.addLoadedTasks(tasks.subList(from, to));
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected exception while adding the loaded tasks, starting with an empty TaskManager: "
+                    + StringUtil.getDetails(e));
+            TaskManager emptyTaskManager = new TaskManager();
+            model.resetData(emptyTaskManager);
+            finishLoading(emptyTaskManager, onLoaded);
+            return;
+        }
+        if (to < tasks.size()) {
+            applicationThreadExecutor.execute(() -> addPage(data, tasks, to, onLoaded));
+            return;
+        }
+
+        finishLoading(data, onLoaded);
+    }
+
+    /**
+     * Finishes loading {@code data} into the model and runs {@code onLoaded}.
+     */
+    private void finishLoading(ReadOnlyTaskManager data, Runnable onLoaded) {
+        model.finishLoading(data);
+        onLoaded.run();
+    }
+
+    private static void runOnNewThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "TaskManagerLoader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates a change in the number of task manager changes waiting to be written to the hard disk,
+ * or the completion of a write.
+ */
+public class SaveStatusChangedEvent extends BaseEvent {
+
+    public static final long NO_WRITE_YET = -1;
+
+    public final int pendingWrites;
+    public final long lastWriteLatencyMillis;
+
+    /**
+     * @param pendingWrites number of changes that are not yet written to the hard disk
+     * @param lastWriteLatencyMillis time taken by the last completed write, or {@code NO_WRITE_YET}
+     */
+    public SaveStatusChangedEvent(int pendingWrites, long lastWriteLatencyMillis) {
+        this.pendingWrites = pendingWrites;
+        this.lastWriteLatencyMillis = lastWriteLatencyMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "pending writes " + pendingWrites + ", last write latency " + lastWriteLatencyMillis + "ms";
+    }
+}
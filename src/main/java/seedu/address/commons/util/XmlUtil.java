@@ -5,6 +5,10 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +17,19 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} is far more expensive than reading or writing a file with it, so one context is
+ * created per class and kept for reuse. As marshallers and unmarshallers cannot be shared between threads, each one
+ * is only lent out to one thread at a time, and returned to a pool for reuse after the read or write.
  */
 public class XmlUtil {
 
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Marshaller>> marshallerPools = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Marshaller>> fragmentMarshallerPools =
+            new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Unmarshaller>> unmarshallerPools = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,10 +51,12 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(file.toFile()));
+        Unmarshaller um = borrowUnmarshaller(classToConvert);
+        try {
+            return ((T) um.unmarshal(file.toFile()));
+        } finally {
+            returnUnmarshaller(classToConvert, um);
+        }
     }
 
     /**
@@ -61,11 +77,101 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = borrowMarshaller(data.getClass());
+        try {
+            m.marshal(data, file.toFile());
+        } finally {
+            returnMarshaller(data.getClass(), m);
+        }
+    }
+
+    /**
+     * Returns the {@code JAXBContext} for {@code classToBeBound}, creating it on first use.
+     * Contexts are thread-safe, so the same context is shared by all threads.
+     *
+     * @throws JAXBException Thrown if the context cannot be created for the class.
+     */
+    public static JAXBContext getContext(Class<?> classToBeBound) throws JAXBException {
+        JAXBContext context = contexts.get(classToBeBound);
+        if (context == null) {
+            // Two threads may both create a context the first time, but only one of them is kept
+            JAXBContext newContext = JAXBContext.newInstance(classToBeBound);
+            context = contexts.putIfAbsent(classToBeBound, newContext);
+            if (context == null) {
+                context = newContext;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Lends out a marshaller for {@code boundClass} that writes formatted documents, creating it if the pool is
+     * empty. It must be given back with {@link #returnMarshaller} once the write is done.
+     *
+     * @throws JAXBException Thrown if the marshaller cannot be created.
+     */
+    public static Marshaller borrowMarshaller(Class<?> boundClass) throws JAXBException {
+        Marshaller m = getPool(marshallerPools, boundClass).poll();
+        if (m == null) {
+            m = getContext(boundClass).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+        return m;
+    }
+
+    /**
+     * Gives back a marshaller lent out by {@link #borrowMarshaller}, for reuse.
+     */
+    public static void returnMarshaller(Class<?> boundClass, Marshaller m) {
+        getPool(marshallerPools, boundClass).offer(m);
+    }
+
+    /**
+     * Lends out a marshaller for {@code boundClass} that writes fragments of a document, without a declaration,
+     * creating it if the pool is empty. It must be given back with {@link #returnFragmentMarshaller} once the write
+     * is done.
+     *
+     * @throws JAXBException Thrown if the marshaller cannot be created.
+     */
+    public static Marshaller borrowFragmentMarshaller(Class<?> boundClass) throws JAXBException {
+        Marshaller m = getPool(fragmentMarshallerPools, boundClass).poll();
+        if (m == null) {
+            m = getContext(boundClass).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        }
+        return m;
+    }
+
+    /**
+     * Gives back a marshaller lent out by {@link #borrowFragmentMarshaller}, for reuse.
+     */
+    public static void returnFragmentMarshaller(Class<?> boundClass, Marshaller m) {
+        getPool(fragmentMarshallerPools, boundClass).offer(m);
+    }
+
+    /**
+     * Lends out an unmarshaller for {@code boundClass}, creating it if the pool is empty.
+     * It must be given back with {@link #returnUnmarshaller} once the read is done.
+     *
+     * @throws JAXBException Thrown if the unmarshaller cannot be created.
+     */
+    public static Unmarshaller borrowUnmarshaller(Class<?> boundClass) throws JAXBException {
+        Unmarshaller um = getPool(unmarshallerPools, boundClass).poll();
+        if (um == null) {
+            um = getContext(boundClass).createUnmarshaller();
+        }
+        return um;
+    }
+
+    /**
+     * Gives back an unmarshaller lent out by {@link #borrowUnmarshaller}, for reuse.
+     */
+    public static void returnUnmarshaller(Class<?> boundClass, Unmarshaller um) {
+        getPool(unmarshallerPools, boundClass).offer(um);
+    }
 
-        m.marshal(data, file.toFile());
+    private static <T> Queue<T> getPool(ConcurrentMap<Class<?>, Queue<T>> pools, Class<?> boundClass) {
+        return pools.computeIfAbsent(boundClass, key -> new ConcurrentLinkedQueue<>());
     }
 
 }
@@ -22,6 +22,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Queues the commands entered from now on instead of executing them, such as while the tasks are loading.
+     * Commands are still parsed as they are entered, so that invalid commands are reported at once.
+     */
+    void queueCommands();
+
+    /**
+     * Executes the queued commands in the order they were entered, reporting the result of each, and executes the
+     * commands entered from now on at once again.
+     */
+    void executeQueuedCommands();
+
     /**
      * Returns an unmodifiable view of the filtered list of tasks
      */
@@ -1,10 +1,14 @@
 package seedu.address.logic;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,16 +23,23 @@ import seedu.address.model.task.Task;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    public static final String MESSAGE_COMMAND_QUEUED = "Your tasks are still loading. "
+            + "The command will be run once they are loaded.";
+    public static final String MESSAGE_QUEUED_COMMAND_FAILED = "A queued command could not be run: %1$s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final TaskManagerParser taskManagerParser;
+    private final Queue<Command> queuedCommands;
+    private boolean isQueueingCommands;
 
     public LogicManager(Model model) {
         this.model = model;
         history = new CommandHistory();
         taskManagerParser = new TaskManagerParser();
+        queuedCommands = new ArrayDeque<>();
     }
 
     @Override
@@ -36,12 +47,41 @@ public class LogicManager extends ComponentManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
             Command command = taskManagerParser.parseCommand(commandText);
+            if (isQueueingCommands) {
+                queuedCommands.add(command);
+                return new CommandResult(MESSAGE_COMMAND_QUEUED);
+            }
             return command.execute(model, history);
         } finally {
             history.add(commandText);
         }
     }
 
+    @Override
+    public void queueCommands() {
+        isQueueingCommands = true;
+    }
+
+    @Override
+    public void executeQueuedCommands() {
+        isQueueingCommands = false;
+        while (!queuedCommands.isEmpty()) {
+            Command command = queuedCommands.remove();
+            try {
+                CommandResult commandResult = command.execute(model, history);
+                logger.info("Result of queued command: " + commandResult.feedbackToUser);
+                raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+            } catch (CommandException ce) {
+                logger.info("Invalid queued command: " + ce.getMessage());
+                raise(new NewResultAvailableEvent(ce.getMessage()));
+            } catch (RuntimeException re) {
+                // Reported like an invalid command, so that the rest of the queue is still run
+                logger.warning("Queued command failed: " + StringUtil.getDetails(re));
+                raise(new NewResultAvailableEvent(String.format(MESSAGE_QUEUED_COMMAND_FAILED, re.getMessage())));
+            }
+        }
+    }
+
     @Override
     public ObservableList<Task> getFilteredTaskList() {
         return model.getFilteredTaskList();
@@ -17,8 +17,10 @@ public class ClearCommand extends Command {
     @Override
     public CommandResult executePrimitive(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.clearTaskData();
-        model.commitTaskManager();
+        model.runInBatch(() -> {
+            model.clearTaskData();
+            return null;
+        });
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -2,12 +2,10 @@ package seedu.address.logic.commands;
 
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.TaskListView;
 import seedu.address.model.achievement.Level;
 import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
@@ -70,6 +68,8 @@ public abstract class CompleteCommand extends Command {
      * tasks to a model.
      * Additionally wraps the method in a try catch block to rollback the model and it's
      * filtered task list's view should any CommandExceptions by raised.
+     * All the tasks are completed in a single batch, so that the model raises one change event
+     * and one achievements event however many tasks are completed.
      * Side Effects: Updates a model, possibly rollback a model and it's filteredTaskList's view
      *
      * @param model model to update
@@ -77,21 +77,19 @@ public abstract class CompleteCommand extends Command {
      * @throws CommandException
      */
     private String completeTasks(Model model) throws CommandException {
-        // Creates a Runnable that reverts the filteredTaskList state to the
-        // old filteredTaskList. (Runnable is created for readability)
-        // Note: new ArrayList(...) is used here to create a shallow copy.
-        List<Task> oldTaskList = new ArrayList<>(model.getFilteredTaskList());
-        Runnable restoreFilteredTaskList = () -> model
-            .updateFilteredTaskList(task -> oldTaskList.contains(task));
+        // Saves the view of the filteredTaskList, to be restored should the tasks be rolled back.
+        TaskListView savedView = model.saveTaskListView();
 
         String completedTasksOutput;
-        // methods with side effects
+        // methods with side effects, rolled back by the batch should they throw
         try {
-            completedTasksOutput = executePrimitivePrime(model);
-            processModelSideEffects(model);
+            completedTasksOutput = model.runInBatch(() -> {
+                String output = executePrimitivePrime(model);
+                processModelSideEffects(model);
+                return output;
+            });
         } catch (CommandException ce) {
-            model.rollbackTaskManager();
-            restoreFilteredTaskList.run();
+            model.restoreTaskListView(savedView);
             throw ce;
         }
 
@@ -101,8 +99,7 @@ public abstract class CompleteCommand extends Command {
     /**
      * Handles additional side effects to the model.
      * Checks for the presence of invalid dependencies.
-     * If there are none, update the model's view of the filtered task list
-     * and commit changes to the model.
+     * If there are none, update the model's view of the filtered task list.
      * Else, throw a command exception.
      *
      * @param model model which has uncommitted states
@@ -114,7 +111,6 @@ public abstract class CompleteCommand extends Command {
         }
 
         model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
-        model.commitTaskManager();
     }
 
 
@@ -148,6 +144,7 @@ public abstract class CompleteCommand extends Command {
      */
     public Task createCompletedTask(Task toComplete) {
         return new Task(
+            toComplete.getId(),
             toComplete.getName(),
             toComplete.getDueDate(),
             toComplete.getPriorityValue(),
@@ -2,28 +2,26 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.task.LabelMatchesAnyKeywordPredicate;
 import seedu.address.model.task.Task;
 
 /**
- * Completes command given by a {@code Task<Predicate>}
+ * Completes the tasks with any of the labels given by a {@code LabelMatchesAnyKeywordPredicate}
  */
 public class CompleteLabelCommand extends CompleteCommand {
 
     // Execution of completion of tasks will differ based on whether it is intended to be a batch operation
-    private final Predicate<Task> taskPredicate;
+    private final LabelMatchesAnyKeywordPredicate taskPredicate;
 
     /**
      * Constructor for batch predicate based execution
      */
-    public CompleteLabelCommand(Predicate<Task> taskPredicate) {
+    public CompleteLabelCommand(LabelMatchesAnyKeywordPredicate taskPredicate) {
         requireNonNull(taskPredicate);
         this.taskPredicate = taskPredicate;
     }
@@ -110,23 +108,20 @@ public class CompleteLabelCommand extends CompleteCommand {
 
     /**
      * Generates a set of tasks that can be completed which also satisfies the supplied predicate.
+     * The tasks with the labels of the predicate are looked up in the label index of the task manager, so only
+     * those tasks are looked at, and the filtered task list is left as it is.
      *
      * @param pred predicate to identify tasks to be completed
      * @param model model to fetch completable tasks from
      * @return a set of tasks that are completed
      */
-    private Set<Task> generateSetOfCompletableTasks(Predicate<Task> pred, Model model) {
-        // Preserve a shallow copy of original list of task to restore later on
-        List<Task> originalTasks = new ArrayList<>(model.getFilteredTaskList());
-
-        // Add all of the completable tasks to setOfTasks
-        model.updateFilteredTaskList(pred.and(task -> !task.isStatusCompleted()));
-        List<Task> filteredList = model.getFilteredTaskList();
-        Set<Task> setOfTasks = new HashSet<>(filteredList);
-
-        // Restore filteredTaskList to it's original view
-        model.updateFilteredTaskList(task -> originalTasks.contains(task));
-
+    private Set<Task> generateSetOfCompletableTasks(LabelMatchesAnyKeywordPredicate pred, Model model) {
+        Set<Task> setOfTasks = new HashSet<>();
+        for (Task task : model.getTaskManager().getTasksWithAnyLabel(pred.getKeyLabels())) {
+            if (!task.isStatusCompleted()) {
+                setOfTasks.add(task);
+            }
+        }
         return setOfTasks;
     }
 
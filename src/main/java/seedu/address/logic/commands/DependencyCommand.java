@@ -9,7 +9,6 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.DependencyGraph;
 import seedu.address.model.Model;
 import seedu.address.model.task.Task;
 
@@ -127,13 +126,11 @@ public class DependencyCommand extends Command {
      */
     private Task handleDependencyAddition(Task taskDependant, Task taskDependee, Model model) throws CommandException {
         //If taskDependant is not dependent on dependee, add dependency
-        Task updatedTask = createDependantTask(taskDependant, taskDependee);
-        DependencyGraph dg = new DependencyGraph(model.getFilteredTaskList());
         //Checking if introducing dependency will create a cyclic dependency
-        if (dg.checkCyclicDependency(updatedTask)) {
+        if (model.isCyclicDependency(taskDependant, taskDependee)) {
             throw new CommandException(MESSAGE_CYCLIC_DEPENDENCY_FAILURE);
         }
-        return updatedTask;
+        return createDependantTask(taskDependant, taskDependee);
     }
 
     /**
@@ -116,8 +116,8 @@ public class EditCommand extends Command {
         }
         Dependencies dependencies = editTaskDescriptor.getDependencies().orElse(taskToEdit.getDependencies());
 
-        return new Task(updatedName, updatedDueDate, updatedPriorityValue, updatedDescription, updatedLabels,
-                updatedStatus, dependencies);
+        return new Task(taskToEdit.getId(), updatedName, updatedDueDate, updatedPriorityValue, updatedDescription,
+                updatedLabels, updatedStatus, dependencies);
     }
 
 
@@ -2,34 +2,37 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.TaskMatchesAnyKeywordPredicate;
 
 /**
- * Finds and lists all tasks in task manager whose name contains any of the argument keywords.
+ * Finds and lists all tasks in task manager whose name, description or labels contain any of the argument keywords.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names, descriptions or labels "
+            + "contain any of the specified keywords (case-insensitive) and displays them as a list with index "
+            + "numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final List<String> keywords;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    public FindCommand(List<String> keywords) {
+        this.keywords = keywords;
     }
 
     @Override
     public CommandResult executePrimitive(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
+        model.updateFilteredTaskList(new TaskMatchesAnyKeywordPredicate(model, keywords));
         return new CommandResult(
                 String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, model.getFilteredTaskList().size()));
     }
@@ -38,6 +41,6 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && keywords.equals(((FindCommand) other).keywords)); // state check
     }
 }
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.SortCommandParser.DUE_DATE_OPTION;
+import static seedu.address.logic.parser.SortCommandParser.EARLIEST_DEPENDENT_DUE_DATE_OPTION;
+import static seedu.address.logic.parser.SortCommandParser.PREFIX_ORDER;
+import static seedu.address.logic.parser.SortCommandParser.PRIORITY_OPTION;
+
+import java.util.Comparator;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+
+/**
+ * Sorts the listed tasks in the task manager.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_SUCCESS = "Sorted tasks";
+
+    public static final String MESSAGE_UNSORTED = "Tasks are shown in the order they were added";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed tasks. "
+            + "Parameters: "
+            + "[" + PREFIX_ORDER + "SORT OPTION" + "]\n"
+            + "Allowed values for \"SORT OPTION\": \n"
+            + DUE_DATE_OPTION + " - earliest due date first \n"
+            + PRIORITY_OPTION + " - highest priority value first \n"
+            + EARLIEST_DEPENDENT_DUE_DATE_OPTION + " - earliest effective due date first \n"
+            + "Without a sort option, tasks are shown in the order they were added.\n"
+            + "\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_ORDER + PRIORITY_OPTION;
+
+    /**
+     * Denotes the orders Sort supports.
+     */
+    public enum SortOrder {
+            DUE_DATE,
+            PRIORITY,
+            EARLIEST_DEPENDENT_DUE_DATE;
+    }
+
+    // The order to sort by, or null if the tasks are shown in the order they were added
+    private final SortOrder sortOrder;
+
+    public SortCommand() {
+        this.sortOrder = null;
+    }
+
+    public SortCommand(SortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    /**
+     * Returns the comparator that sorts the tasks of {@code model} in the given {@code sortOrder}.
+     */
+    private static Comparator<Task> getComparator(SortOrder sortOrder, Model model) {
+        switch (sortOrder) {
+        case DUE_DATE:
+            return Comparator.comparing(Task::getDueDate);
+        case PRIORITY:
+            return Comparator.comparing(Task::getPriorityValue).reversed();
+        case EARLIEST_DEPENDENT_DUE_DATE:
+            return model.getEffectiveDueDateComparator();
+        default:
+            throw new AssertionError("Unknown sort order: " + sortOrder);
+        }
+    }
+
+    @Override
+    public CommandResult executePrimitive(Model model, CommandHistory history) {
+        requireNonNull(model);
+        if (sortOrder == null) {
+            model.updateSortedTaskList(null);
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+        model.updateSortedTaskList(getComparator(sortOrder, model));
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && sortOrder == ((SortCommand) other).sortOrder); // state check
+    }
+}
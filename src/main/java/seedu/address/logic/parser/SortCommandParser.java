@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /** Used to get the sort order option */
+    public static final Prefix PREFIX_ORDER = new Prefix("o/");
+
+    public static final String DUE_DATE_OPTION = "date";
+    public static final String PRIORITY_OPTION = "priority";
+    public static final String EARLIEST_DEPENDENT_DUE_DATE_OPTION = "effective";
+
+    /**
+     * Parses a string that represents a sort order option.
+     *
+     * @param s the optional string the denotes the sort order
+     * @return an Optional SortOrder, which is not present if there is no string parameter
+     * @throws ParseException if a sort order is present but the sort order is invalid
+     */
+    private Optional<SortCommand.SortOrder> parseSortOrder(Optional<String> s) throws ParseException {
+        if (!s.isPresent()) {
+            return Optional.empty();
+        }
+        switch (s.get()) {
+        case DUE_DATE_OPTION:
+            return Optional.of(SortCommand.SortOrder.DUE_DATE);
+        case PRIORITY_OPTION:
+            return Optional.of(SortCommand.SortOrder.PRIORITY);
+        case EARLIEST_DEPENDENT_DUE_DATE_OPTION:
+            return Optional.of(SortCommand.SortOrder.EARLIEST_DEPENDENT_DUE_DATE);
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ORDER);
+
+        return parseSortOrder(argMultimap.getValue(PREFIX_ORDER))
+                .map(SortCommand::new)
+                .orElseGet(SortCommand::new);
+    }
+}
@@ -1,75 +1,273 @@
 package seedu.address.model;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
+import seedu.address.model.task.DueDate;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.GraphCycleException;
 
 /**
  * DependencyGraph models the dependencies of the tasks so that checks such as cyclic dependencies can be performed and
  * useful information such as the topological sort of the dependencies can be determined.
+ *
+ * The graph is kept up to date as tasks are added, updated and removed, with the edges of every task stored in both
+ * directions, so that neither direction has to be rebuilt from the task list when it is needed.
+ * The effective due date of every task, the earliest due date among the task and the uncompleted tasks directly or
+ * indirectly dependent on it, is kept up to date in the same way, so that it can be read in constant time.
  */
 public class DependencyGraph {
-    private Map<String, Set<String>> adjacencyList = new HashMap<>();
-    private List<Task> taskList;
+    // Ids of the tasks that each task is dependent on
+    private final Map<Long, Set<Long>> dependees = new HashMap<>();
+    // Ids of the tasks that are dependent on each task
+    private final Map<Long, Set<Long>> dependants = new HashMap<>();
+    private final Set<Long> completedTasks = new HashSet<>();
+    // Number of dependencies of completed tasks on uncompleted tasks, kept up to date by every update
+    private int invalidDependencyCount;
+    private final Map<Long, DueDate> dueDates = new HashMap<>();
+    private final Map<Long, DueDate> effectiveDueDates = new HashMap<>();
 
+    /**
+     * Constructs an empty graph.
+     */
+    public DependencyGraph() {}
+
+    /**
+     * Constructs a graph of the dependencies between the tasks in {@code taskList}.
+     *
+     * @throws GraphCycleException if the dependencies contain a cycle
+     */
     public DependencyGraph(List<Task> taskList) {
-        this.taskList = taskList;
+        setTasks(taskList);
+        //Defensive check: Check cycles on graph instantiation
+        List<Long> cycle = findCycle();
+        if (!cycle.isEmpty()) {
+            throw new GraphCycleException(cycle);
+        }
+    }
+
+    //===================== Graph Updates ===================================
+
+    /**
+     * Replaces the contents of the graph with the dependencies between the tasks in {@code taskList}.
+     */
+    public void setTasks(List<Task> taskList) {
+        dependees.clear();
+        dependants.clear();
+        completedTasks.clear();
+        invalidDependencyCount = 0;
+        dueDates.clear();
+        effectiveDueDates.clear();
         for (Task task : taskList) {
-            String hash = Integer.toString(task.hashCode());
-            Set<String> edges = new HashSet<>(task.getDependencyHashes());
-            adjacencyList.put(hash, edges);
+            putTask(task);
         }
-        //Defensive check: Check cycles on graph instantiation
-        if (checkPresenceOfCycle()) {
-            throw new GraphCycleException();
+        computeEffectiveDueDates();
+    }
+
+    /**
+     * Adds {@code task} and its dependencies to the graph.
+     */
+    public void addTask(Task task) {
+        assert task != null;
+        putTask(task);
+        updateEffectiveDueDates(Collections.singleton(task.getId()));
+    }
+
+    /**
+     * Adds {@code task} and its dependencies to the graph, without updating any effective due date.
+     */
+    private void putTask(Task task) {
+        long id = task.getId();
+        int oldInvalidDependencyCount = countInvalidDependencies(id);
+        dependees.computeIfAbsent(id, key -> new HashSet<>());
+        dependants.computeIfAbsent(id, key -> new HashSet<>());
+        for (Long dependeeId : task.getDependencyIds()) {
+            addEdge(id, dependeeId);
+        }
+        if (task.isStatusCompleted()) {
+            completedTasks.add(id);
+        }
+        dueDates.put(id, task.getDueDate());
+        invalidDependencyCount += countInvalidDependencies(id) - oldInvalidDependencyCount;
+    }
+
+    /**
+     * Updates the dependencies and status of the task in the graph with the id of {@code editedTask}.
+     * Only the edges that were added or removed by the edit are touched.
+     */
+    public void updateTask(Task editedTask) {
+        assert editedTask != null;
+        long id = editedTask.getId();
+        int oldInvalidDependencyCount = countInvalidDependencies(id);
+        Set<Long> newDependees = editedTask.getDependencyIds();
+        Set<Long> oldDependees = new HashSet<>(dependees.getOrDefault(id, Collections.emptySet()));
+        for (Long dependeeId : oldDependees) {
+            if (!newDependees.contains(dependeeId)) {
+                removeEdge(id, dependeeId);
+            }
+        }
+        for (Long dependeeId : newDependees) {
+            if (!oldDependees.contains(dependeeId)) {
+                addEdge(id, dependeeId);
+            }
+        }
+        if (editedTask.isStatusCompleted()) {
+            completedTasks.add(id);
+        } else {
+            completedTasks.remove(id);
+        }
+        dueDates.put(id, editedTask.getDueDate());
+        invalidDependencyCount += countInvalidDependencies(id) - oldInvalidDependencyCount;
+
+        // The tasks that the task was or is now dependent on take its effective due date into account
+        Set<Long> changedIds = new HashSet<>(oldDependees);
+        changedIds.addAll(newDependees);
+        changedIds.add(id);
+        updateEffectiveDueDates(changedIds);
+    }
+
+    /**
+     * Removes {@code task} from the graph, together with all dependencies on it.
+     */
+    public void removeTask(Task task) {
+        assert task != null;
+        long id = task.getId();
+        invalidDependencyCount -= countInvalidDependencies(id);
+        for (Long dependeeId : dependees.getOrDefault(id, Collections.emptySet())) {
+            dependants.get(dependeeId).remove(id);
+        }
+        for (Long dependantId : dependants.getOrDefault(id, Collections.emptySet())) {
+            dependees.get(dependantId).remove(id);
+        }
+        Set<Long> oldDependees = dependees.remove(id);
+        dependants.remove(id);
+        completedTasks.remove(id);
+        dueDates.remove(id);
+        effectiveDueDates.remove(id);
+        if (oldDependees != null) {
+            updateEffectiveDueDates(oldDependees);
         }
     }
 
-    //===================== Graph Transformations ===================================
+    /**
+     * Computes the effective due date of every task, visiting the dependants of each task before the task.
+     */
+    private void computeEffectiveDueDates() {
+        List<Long> order = new IndexedGraph(dependees, Collections.emptySet()).topologicalSort();
+        for (int i = order.size() - 1; i >= 0; i--) {
+            long id = order.get(i);
+            effectiveDueDates.put(id, computeEffectiveDueDate(id));
+        }
+        // Tasks in or behind a cycle are left out of the order
+        for (Long id : dueDates.keySet()) {
+            effectiveDueDates.putIfAbsent(id, dueDates.get(id));
+        }
+    }
+
+    /**
+     * Updates the effective due dates of the tasks with the given {@code ids}, then of the tasks they are directly
+     * dependent on whenever a date changes, working from dependants towards the tasks they depend on. Tasks whose
+     * effective due dates cannot have changed are not visited.
+     */
+    private void updateEffectiveDueDates(Collection<Long> ids) {
+        Deque<Long> toUpdate = new ArrayDeque<>(ids);
+        while (!toUpdate.isEmpty()) {
+            long id = toUpdate.poll();
+            if (!dueDates.containsKey(id)) {
+                continue;
+            }
+            DueDate effectiveDueDate = computeEffectiveDueDate(id);
+            if (!effectiveDueDate.equals(effectiveDueDates.put(id, effectiveDueDate))) {
+                toUpdate.addAll(dependees.get(id));
+            }
+        }
+    }
 
     /**
-     * Invert the edges in the graph
+     * Returns the earliest due date among the task with the given {@code id} and the effective due dates of the
+     * uncompleted tasks directly dependent on it. A completed task has its own due date.
      */
-    public void invertGraph() {
-        Map<String, Set<String>> newAgencyList = new HashMap<>();
-        for (String node : adjacencyList.keySet()) {
-            newAgencyList.put(node, new HashSet<>());
+    private DueDate computeEffectiveDueDate(long id) {
+        DueDate earliestDate = dueDates.get(id);
+        if (completedTasks.contains(id)) {
+            return earliestDate;
         }
-        for (Map.Entry<String, Set<String>> entry : adjacencyList.entrySet()) {
-            String node = entry.getKey();
-            Set<String> edges = entry.getValue();
-            for (String otherNode : edges) {
-                newAgencyList.get(otherNode).add(node);
+        for (Long dependantId : dependants.getOrDefault(id, Collections.emptySet())) {
+            DueDate dependantDate = effectiveDueDates.get(dependantId);
+            if (!completedTasks.contains(dependantId) && dependantDate != null
+                    && dependantDate.compareTo(earliestDate) < 0) {
+                earliestDate = dependantDate;
             }
         }
-        adjacencyList = newAgencyList;
+        return earliestDate;
+    }
+
+    private void addEdge(long dependantId, long dependeeId) {
+        dependees.computeIfAbsent(dependantId, key -> new HashSet<>()).add(dependeeId);
+        dependants.computeIfAbsent(dependeeId, key -> new HashSet<>()).add(dependantId);
+    }
+
+    private void removeEdge(long dependantId, long dependeeId) {
+        dependees.get(dependantId).remove(dependeeId);
+        dependants.get(dependeeId).remove(dependantId);
     }
 
     /**
-     * Prunes completed tasks and dependencies to completed tasks
+     * Returns the number of dependencies of a completed task on an uncompleted task that the task with the given
+     * {@code id} is either side of. Every such dependency is between two different tasks, as the graph cannot have
+     * a task dependent on itself, and involves only tasks that are in the graph.
      */
-    public void pruneCompletedTasks() {
-        for (Task task : this.taskList) {
-            if (task.isStatusCompleted()) {
-                String hash = Integer.toString(task.hashCode());
-                for (Set<String> set : adjacencyList.values()) {
-                    if (set.contains(hash)) {
-                        set.remove(hash);
-                    }
+    private int countInvalidDependencies(long id) {
+        if (!dependees.containsKey(id)) {
+            return 0;
+        }
+        int count = 0;
+        if (completedTasks.contains(id)) {
+            for (Long dependeeId : dependees.get(id)) {
+                if (dependees.containsKey(dependeeId) && !completedTasks.contains(dependeeId)) {
+                    count++;
+                }
+            }
+        } else {
+            for (Long dependantId : dependants.getOrDefault(id, Collections.emptySet())) {
+                if (completedTasks.contains(dependantId)) {
+                    count++;
                 }
-                adjacencyList.remove(hash);
             }
         }
+        return count;
     }
 
     //=================== Graph Operations ====================================
 
+    /**
+     * Returns true if any completed task is dependent on a task that is not completed.
+     * Takes constant time, as the number of such dependencies is updated along with the graph.
+     */
+    public boolean hasInvalidDependencies() {
+        return invalidDependencyCount > 0;
+    }
+
+    /**
+     * Returns true if making {@code dependant} dependent on {@code dependee} will result in a cycle in the graph.
+     * Only the tasks that {@code dependee} is directly or indirectly dependent on are visited.
+     */
+    public boolean checkCyclicDependency(Task dependant, Task dependee) {
+        assert dependant != null;
+        assert dependee != null;
+        return isReachable(dependee.getId(), dependant.getId());
+    }
+
     /**
      * Returns true if the task with updated dependency or new task will result in a cycle in the graph
      *
@@ -78,90 +276,241 @@ public class DependencyGraph {
      */
     public boolean checkCyclicDependency(Task task) {
         assert task != null;
-        String hash = Integer.toString(task.hashCode());
-        adjacencyList.remove(hash);
-        adjacencyList.put(hash, task.getDependencies().getHashes());
-        return checkPresenceOfCycle();
+        for (Long dependeeId : task.getDependencyIds()) {
+            if (isReachable(dependeeId, task.getId())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Checks if there is a cycle in the graph
-     *
-     * @return <code>true</code> if a cycle is present; <code>false</code> otherwise.
+     * Returns true if the task with id {@code to} is the task with id {@code from}, or is directly or indirectly
+     * depended on by it.
      */
-    public boolean checkPresenceOfCycle() {
-        Set<String> unvisited = new HashSet<>(adjacencyList.keySet());
-        Set<String> stack = new HashSet<>();
-        List<String> visited = new ArrayList<>();
-        for (String node : adjacencyList.keySet()) {
-            if (unvisited.contains(node)) {
-                if (depthFirstSearch(node, unvisited, visited, stack, adjacencyList)) {
-                    return true;
+    private boolean isReachable(long from, long to) {
+        Set<Long> seen = new HashSet<>();
+        Deque<Long> toVisit = new ArrayDeque<>();
+        toVisit.push(from);
+        seen.add(from);
+        while (!toVisit.isEmpty()) {
+            long node = toVisit.pop();
+            if (node == to) {
+                return true;
+            }
+            for (Long nextNode : dependees.getOrDefault(node, Collections.emptySet())) {
+                if (seen.add(nextNode)) {
+                    toVisit.push(nextNode);
                 }
             }
         }
         return false;
     }
 
+    /**
+     * Checks if there is a cycle in the graph
+     *
+     * @return <code>true</code> if a cycle is present; <code>false</code> otherwise.
+     */
+    public boolean checkPresenceOfCycle() {
+        return !findCycle().isEmpty();
+    }
+
+    /**
+     * Returns the ids of the tasks along a cycle in the graph, each task being dependent on the next, and the last
+     * id being the same as the first. Returns an empty list if the graph has no cycle.
+     */
+    public List<Long> findCycle() {
+        return new IndexedGraph(dependees, Collections.emptySet()).findCycle();
+    }
+
     /**
      * Returns topological sort of the graph (with completed Tasks removed)
      *
-     * @return list of hashes of tasks sorted by topological order
-     */
-    public List<String> topologicalSort() {
-        pruneCompletedTasks();
-        Set<String> unvisited = new HashSet<>(adjacencyList.keySet());
-        Set<String> stack = new HashSet<>();
-        List<String> visited = new ArrayList<>();
-        for (String node : adjacencyList.keySet()) {
-            if (unvisited.contains(node)) {
-                if (depthFirstSearch(node, unvisited, visited, stack, adjacencyList)) {
-                    throw new GraphCycleException();
-                }
-            }
+     * @return list of ids of tasks sorted by topological order
+     * @throws GraphCycleException if the uncompleted tasks have a cyclic dependency
+     */
+    public List<Long> topologicalSort() {
+        IndexedGraph graph = new IndexedGraph(dependees, completedTasks);
+        List<Long> order = graph.topologicalSort();
+        if (order.size() < graph.size()) {
+            throw new GraphCycleException(graph.findCycle());
         }
-        return visited;
+        return order;
     }
 
     /**
-     * Performs dfs on graph to check for cycles
-     *
-     * @param node          next node to check
-     * @param unvisited     set of unvisited nodes
-     * @param stack         set of nodes in current path. Used to check cycles
-     * @param adjacencyList
-     * @return <code>true</true> is there is a cycle
-     */
-    private boolean depthFirstSearch(String node, Set<String> unvisited, List<String> visited, Set<String> stack,
-                                     Map<String, Set<String>> adjacencyList) {
-        assert node != null;
-        if (stack.contains(node)) {
-            return true;
-        }
-        unvisited.remove(node);
-        stack.add(node);
-        Set<String> edges = adjacencyList.getOrDefault(node, new HashSet<String>());
-        for (String nextNode : edges) {
-            if (depthFirstSearch(nextNode, unvisited, visited, stack, adjacencyList)) {
-                return true;
+     * A snapshot of the graph with the tasks numbered from 0, so that searches run over arrays of primitives.
+     * Both searches are iterative and, once the tasks are numbered, take time linear in the number of tasks and
+     * dependencies, so neither a long chain of dependencies nor a large number of tasks makes them overflow the
+     * stack or slow down.
+     */
+    private static class IndexedGraph {
+        private static final int UNVISITED = 0;
+        private static final int IN_PATH = 1;
+        private static final int DONE = 2;
+
+        private final long[] ids;
+        // Indexes of the tasks that each task is dependent on
+        private final int[][] edges;
+
+        /**
+         * Numbers the tasks in {@code adjacencyList} that are not in {@code pruned} in order of id, and orders the
+         * dependencies of each task the same way, so that both searches visit the tasks in the same order whatever
+         * the order of the hash maps. Dependencies on pruned tasks are left out.
+         */
+        IndexedGraph(Map<Long, Set<Long>> adjacencyList, Set<Long> pruned) {
+            long[] nodes = new long[adjacencyList.size()];
+            int size = 0;
+            for (Long id : adjacencyList.keySet()) {
+                if (!pruned.contains(id)) {
+                    nodes[size++] = id;
+                }
+            }
+            ids = Arrays.copyOf(nodes, size);
+            Arrays.sort(ids);
+            Map<Long, Integer> indexOfId = new HashMap<>();
+            for (int node = 0; node < size; node++) {
+                indexOfId.put(ids[node], node);
+            }
+            edges = new int[size][];
+            for (int node = 0; node < size; node++) {
+                Set<Long> dependeeIds = adjacencyList.get(ids[node]);
+                int[] nodeEdges = new int[dependeeIds.size()];
+                int count = 0;
+                for (Long dependeeId : dependeeIds) {
+                    Integer dependee = indexOfId.get(dependeeId);
+                    if (dependee != null) {
+                        nodeEdges[count++] = dependee;
+                    }
+                }
+                edges[node] = count == nodeEdges.length ? nodeEdges : Arrays.copyOf(nodeEdges, count);
+                Arrays.sort(edges[node]);
             }
         }
-        if (!visited.contains(node)) {
-            visited.add(node);
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * Returns the ids of the tasks ordered such that every task comes after the tasks it is dependent on,
+         * using Kahn's algorithm. Tasks in or behind a cycle are left out.
+         */
+        List<Long> topologicalSort() {
+            int size = size();
+            int[] dependantCounts = new int[size];
+            for (int[] nodeEdges : edges) {
+                for (int dependee : nodeEdges) {
+                    dependantCounts[dependee]++;
+                }
+            }
+            int[][] dependants = new int[size][];
+            for (int node = 0; node < size; node++) {
+                dependants[node] = new int[dependantCounts[node]];
+            }
+            int[] remainingDependees = new int[size];
+            for (int node = 0; node < size; node++) {
+                remainingDependees[node] = edges[node].length;
+                for (int dependee : edges[node]) {
+                    dependants[dependee][--dependantCounts[dependee]] = node;
+                }
+            }
+
+            int[] queue = new int[size];
+            int head = 0;
+            int tail = 0;
+            for (int node = 0; node < size; node++) {
+                if (remainingDependees[node] == 0) {
+                    queue[tail++] = node;
+                }
+            }
+            List<Long> order = new ArrayList<>(size);
+            while (head < tail) {
+                int node = queue[head++];
+                order.add(ids[node]);
+                for (int dependant : dependants[node]) {
+                    if (--remainingDependees[dependant] == 0) {
+                        queue[tail++] = dependant;
+                    }
+                }
+            }
+            return order;
+        }
+
+        /**
+         * Returns the ids of the tasks along a cycle, ending with the id it starts with, or an empty list if there
+         * is no cycle. Performs a depth first search with an explicit stack.
+         */
+        List<Long> findCycle() {
+            int size = size();
+            int[] state = new int[size];
+            int[] path = new int[size];
+            // Index into edges of the next dependency to follow from each task in path
+            int[] nextEdge = new int[size];
+            for (int start = 0; start < size; start++) {
+                if (state[start] != UNVISITED) {
+                    continue;
+                }
+                int depth = 0;
+                path[depth] = start;
+                nextEdge[depth] = 0;
+                state[start] = IN_PATH;
+                while (depth >= 0) {
+                    int node = path[depth];
+                    if (nextEdge[depth] == edges[node].length) {
+                        state[node] = DONE;
+                        depth--;
+                        continue;
+                    }
+                    int next = edges[node][nextEdge[depth]++];
+                    if (state[next] == IN_PATH) {
+                        return getCycle(path, depth, next);
+                    }
+                    if (state[next] == UNVISITED) {
+                        depth++;
+                        path[depth] = next;
+                        nextEdge[depth] = 0;
+                        state[next] = IN_PATH;
+                    }
+                }
+            }
+            return new ArrayList<>();
+        }
+
+        /**
+         * Returns the ids of the tasks in {@code path} from {@code cycleStart} up to {@code depth}, followed by
+         * the id of {@code cycleStart}.
+         */
+        private List<Long> getCycle(int[] path, int depth, int cycleStart) {
+            int start = depth;
+            while (path[start] != cycleStart) {
+                start--;
+            }
+            List<Long> cycle = new ArrayList<>();
+            for (int i = start; i <= depth; i++) {
+                cycle.add(ids[path[i]]);
+            }
+            cycle.add(ids[cycleStart]);
+            return cycle;
         }
-        stack.remove(node);
-        return false;
     }
 
     //===================== Getter methods ==============================
 
     /**
-     * Return the inverted pruned graph (with their hashcodes as string)
+     * Returns the ids of the tasks that are directly dependent on the task with the given {@code id}.
+     */
+    public Set<Long> getDependants(long id) {
+        return Collections.unmodifiableSet(dependants.getOrDefault(id, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the earliest due date among the task with the given {@code id} and the uncompleted tasks directly or
+     * indirectly dependent on it, or an empty Optional if the task is not in the graph.
      */
-    public Map<String, Set<String>> getPrunedInvertedGraph() {
-        pruneCompletedTasks();
-        invertGraph();
-        return this.adjacencyList;
+    public Optional<DueDate> getEffectiveDueDate(long id) {
+        return Optional.ofNullable(effectiveDueDates.get(id));
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -28,6 +29,19 @@ public interface Model {
      */
     void clearTaskData();
 
+    /**
+     * Adds {@code tasks}, a page of the tasks loaded from storage, to the end of the task list.
+     * No change event is raised, so that the task manager is not saved before all of its tasks are loaded.
+     */
+    void addLoadedTasks(List<Task> tasks);
+
+    /**
+     * Ends the loading of {@code loadedData}, all of whose tasks have been added with {@link #addLoadedTasks(List)}.
+     * Its achievements and game mode are set, the loaded tasks are left out of the undo history, and the tasks that
+     * have become overdue are marked.
+     */
+    void finishLoading(ReadOnlyTaskManager loadedData);
+
     /**
      * Returns the TaskManager
      */
@@ -108,7 +122,7 @@ public interface Model {
     AchievementRecord getAchievementRecord();
 
     /**
-     * Returns an unmodifiable view of the filtered task list
+     * Returns an unmodifiable view of the filtered task list, in its sorted order
      */
     ObservableList<Task> getFilteredTaskList();
 
@@ -119,6 +133,33 @@ public interface Model {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the order of the filtered task list to sort by the given {@code comparator}.
+     * The tasks are shown in the order of the task manager if {@code comparator} is null.
+     */
+    void updateSortedTaskList(Comparator<Task> comparator);
+
+    /**
+     * Returns the comparator that orders tasks by their effective due date, the earliest due date among them and
+     * their dependants, and then by their own due date.
+     * Unlike other orders, it depends on other tasks, so the filtered task list is sorted again after every change
+     * while it is sorted by this comparator.
+     */
+    Comparator<Task> getEffectiveDueDateComparator();
+
+    /**
+     * Returns the current filter and order of the filtered task list, so that they can be restored later with
+     * {@link #restoreTaskListView(TaskListView)}.
+     */
+    TaskListView saveTaskListView();
+
+    /**
+     * Restores the filter and order of the filtered task list saved in {@code view}.
+     *
+     * @throws NullPointerException if {@code view} is null.
+     */
+    void restoreTaskListView(TaskListView view);
+
     /**
      * Returns true if the model has previous task manager states to restore.
      */
@@ -147,11 +188,33 @@ public interface Model {
     /**
      * Removes all uncommitted changes and rollbacks to state pointed by
      * current state pointer.
+     * Any batch in progress is ended without committing.
      */
     void rollbackTaskManager();
 
     /**
-     * Checks for overdue tasks and updates them
+     * Starts a batch of changes. Until the batch is committed, changes do not raise events, so that a batch raises
+     * at most one change event and one achievements event however many tasks it changes.
+     * Batches can be nested, in which case only the outermost batch raises events and commits.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch. If it is the outermost batch, saves the task manager state for undo/redo as a single
+     * state, and raises the events held back during the batch.
+     */
+    void commitBatch();
+
+    /**
+     * Makes the changes of {@code changes} in a batch, and returns what it returns.
+     * The batch is always ended, even if {@code changes} throws. If it throws and the batch is the outermost batch,
+     * the task manager is rolled back to its last committed state, raising an event for each kind of change.
+     */
+    <T, E extends Exception> T runInBatch(BatchedChanges<T, E> changes) throws E;
+
+    /**
+     * Marks the in-progress tasks whose due dates have passed as overdue.
+     * Raises a change event if any task was marked.
      */
     void checkOverdue();
 
@@ -165,4 +228,17 @@ public interface Model {
      */
     List<Task> getTopologicalOrder();
 
+    /**
+     * Returns true if making {@code dependant} dependent on {@code dependee} will introduce a cyclic dependency.
+     */
+    boolean isCyclicDependency(Task dependant, Task dependee);
+
+
+    /**
+     * Changes to the model to be made in a batch by {@link #runInBatch(BatchedChanges)}.
+     */
+    @FunctionalInterface
+    interface BatchedChanges<T, E extends Exception> {
+        T run() throws E;
+    }
 }
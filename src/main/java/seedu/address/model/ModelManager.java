@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -10,6 +11,7 @@ import java.util.logging.Logger;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AchievementsUpdatedEvent;
@@ -27,6 +29,14 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final VersionedTaskManager versionedTaskManager;
     private final FilteredList<Task> filteredTasks;
+    private final SortedList<Task> sortedTasks;
+    private final Comparator<Task> effectiveDueDateComparator;
+    private Comparator<Task> taskComparator;
+
+    // Number of batches in progress, and the events held back until the outermost batch is committed
+    private int batchDepth;
+    private boolean hasHeldTaskManagerChange;
+    private boolean hasHeldAchievementsUpdate;
 
     /**
      * Initializes a ModelManager with the given taskManager and userPrefs.
@@ -37,8 +47,12 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with task manager: " + taskManager + " and user prefs " + userPrefs);
 
-        versionedTaskManager = new VersionedTaskManager(taskManager);
+        versionedTaskManager = new VersionedTaskManager(taskManager, getValidUndoHistoryDepth(userPrefs));
         filteredTasks = new FilteredList<>(versionedTaskManager.getTaskList());
+        sortedTasks = new SortedList<>(filteredTasks);
+        // The task manager keeps these dates up to date, so each is read in constant time
+        effectiveDueDateComparator = Comparator.comparing(versionedTaskManager::getEarliestDependentTimeForNode)
+                .thenComparing(Task::getDueDate);
         //Updates status of all IN PROGRESS tasks that have due dates before current time as overdue
         this.checkOverdue();
     }
@@ -47,6 +61,20 @@ public class ModelManager extends ComponentManager implements Model {
         this(new TaskManager(), new UserPrefs());
     }
 
+    /**
+     * Returns the undo history depth in {@code userPrefs}, or the default depth if it is not positive, as the
+     * preferences file can be edited by the user.
+     */
+    private static int getValidUndoHistoryDepth(UserPrefs userPrefs) {
+        int undoHistoryDepth = userPrefs.getUndoHistoryDepth();
+        if (undoHistoryDepth <= 0) {
+            logger.warning("Undo history depth " + undoHistoryDepth + " is not positive. Using the default depth of "
+                    + VersionedTaskManager.DEFAULT_HISTORY_DEPTH + " instead");
+            return VersionedTaskManager.DEFAULT_HISTORY_DEPTH;
+        }
+        return undoHistoryDepth;
+    }
+
     @Override
     public Level getLevel() {
         return versionedTaskManager.getLevel();
@@ -71,22 +99,50 @@ public class ModelManager extends ComponentManager implements Model {
         this.resetData(taskManagerWithTasksCleared);
     }
 
+    @Override
+    public void addLoadedTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        int size = versionedTaskManager.getTaskList().size();
+        versionedTaskManager.replaceTasks(size, size, tasks);
+    }
+
+    @Override
+    public void finishLoading(ReadOnlyTaskManager loadedData) {
+        requireNonNull(loadedData);
+        versionedTaskManager.setAchievements(loadedData.getAchievementRecord());
+        versionedTaskManager.setGameManager(loadedData.getGameManager());
+        versionedTaskManager.resetHistory();
+        versionedTaskManager.updateIfOverdue();
+        indicateTaskManagerChanged();
+        indicateAchievementsUpdated();
+    }
+
     @Override
     public ReadOnlyTaskManager getTaskManager() {
         return versionedTaskManager;
     }
 
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed, or holds it back until the batch in progress is committed.
      */
     private void indicateTaskManagerChanged() {
+        if (batchDepth > 0) {
+            hasHeldTaskManagerChange = true;
+            return;
+        }
+        resortTaskList();
         raise(new TaskManagerChangedEvent(versionedTaskManager));
     }
 
     /**
-     * Raises an event to indicate the achievements reflected on UI should be updated
+     * Raises an event to indicate the achievements reflected on UI should be updated, or holds it back until the
+     * batch in progress is committed.
      */
     private void indicateAchievementsUpdated() {
+        if (batchDepth > 0) {
+            hasHeldAchievementsUpdate = true;
+            return;
+        }
         raise(new AchievementsUpdatedEvent(versionedTaskManager.getAchievementRecord()));
     }
 
@@ -183,11 +239,11 @@ public class ModelManager extends ComponentManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Task} backed by the internal list of
-     * {@code versionedTaskManager}
+     * {@code versionedTaskManager}, filtered and then sorted
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return FXCollections.unmodifiableObservableList(filteredTasks);
+        return FXCollections.unmodifiableObservableList(sortedTasks);
     }
 
     @Override
@@ -196,6 +252,43 @@ public class ModelManager extends ComponentManager implements Model {
         filteredTasks.setPredicate(predicate);
     }
 
+    @Override
+    public void updateSortedTaskList(Comparator<Task> comparator) {
+        taskComparator = comparator;
+        sortedTasks.setComparator(comparator);
+    }
+
+    @Override
+    public Comparator<Task> getEffectiveDueDateComparator() {
+        return effectiveDueDateComparator;
+    }
+
+    @Override
+    public TaskListView saveTaskListView() {
+        return new TaskListView(filteredTasks.getPredicate(), taskComparator);
+    }
+
+    @Override
+    public void restoreTaskListView(TaskListView view) {
+        requireNonNull(view);
+        filteredTasks.setPredicate(view.getPredicate());
+        updateSortedTaskList(view.getComparator());
+    }
+
+    /**
+     * Sorts the filtered task list again if it is sorted by effective due date.
+     * Tasks that are added or changed are put in place as they change, which is all other orders need. The effective
+     * due date of a task is derived from its dependants, so it may also change for tasks that were not. The tasks
+     * are already almost in order, so sorting them again takes close to linear time, but it is still paid on every
+     * change while the list is sorted this way.
+     */
+    private void resortTaskList() {
+        if (taskComparator == effectiveDueDateComparator) {
+            // A new comparator object is needed for the list to be sorted again
+            sortedTasks.setComparator(taskComparator::compare);
+        }
+    }
+
     //=========== Undo/Redo =================================================================================
 
     @Override
@@ -229,16 +322,74 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void rollbackTaskManager() {
+        endBatches();
         versionedTaskManager.rollback();
         indicateTaskManagerChanged();
         indicateAchievementsUpdated();
     }
 
+    //=========== Batches ===================================================================================
+
+    @Override
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    @Override
+    public void commitBatch() {
+        assert batchDepth > 0 : "No batch to commit";
+        if (--batchDepth > 0) {
+            return;
+        }
+
+        versionedTaskManager.commit();
+        boolean isTaskManagerChanged = hasHeldTaskManagerChange;
+        boolean isAchievementsUpdated = hasHeldAchievementsUpdate;
+        endBatches();
+        if (isTaskManagerChanged) {
+            indicateTaskManagerChanged();
+        }
+        if (isAchievementsUpdated) {
+            indicateAchievementsUpdated();
+        }
+    }
+
+    @Override
+    public <T, E extends Exception> T runInBatch(BatchedChanges<T, E> changes) throws E {
+        beginBatch();
+        boolean isCompleted = false;
+        try {
+            T result = changes.run();
+            isCompleted = true;
+            return result;
+        } finally {
+            if (isCompleted) {
+                commitBatch();
+            } else if (batchDepth > 1) {
+                // Left to the outermost batch, which rolls back all of its changes
+                batchDepth--;
+            } else {
+                rollbackTaskManager();
+            }
+        }
+    }
+
+    /**
+     * Ends every batch in progress, dropping the events held back by them.
+     */
+    private void endBatches() {
+        batchDepth = 0;
+        hasHeldTaskManagerChange = false;
+        hasHeldAchievementsUpdate = false;
+    }
+
     //=========== Check overdue ==========================================================================
 
     @Override
     public void checkOverdue() {
-        versionedTaskManager.updateIfOverdue();
+        if (versionedTaskManager.updateIfOverdue()) {
+            indicateTaskManagerChanged();
+        }
     }
 
     @Override
@@ -256,7 +407,7 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedTaskManager.equals(other.versionedTaskManager)
-            && filteredTasks.equals(other.filteredTasks);
+            && sortedTasks.equals(other.sortedTasks);
     }
 
     //=========== Check for any unfulfilled dependencies===================================================
@@ -271,4 +422,10 @@ public class ModelManager extends ComponentManager implements Model {
     public List<Task> getTopologicalOrder() {
         return this.getTaskManager().getTopologicalOrder();
     }
+
+    @Override
+    public boolean isCyclicDependency(Task dependant, Task dependee) {
+        requireAllNonNull(dependant, dependee);
+        return versionedTaskManager.isCyclicDependency(dependant, dependee);
+    }
 }
@@ -1,10 +1,12 @@
 package seedu.address.model;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.achievement.AchievementRecord;
 import seedu.address.model.game.GameManager;
+import seedu.address.model.tag.Label;
 import seedu.address.model.task.DueDate;
 import seedu.address.model.task.Task;
 
@@ -29,13 +31,37 @@ public interface ReadOnlyTaskManager {
      */
     GameManager getGameManager();
 
+    /**
+     * Returns true if {@code task} is dependent on a task in the task manager that is not completed.
+     */
+    boolean hasUncompletedDependee(Task task);
+
+    /**
+     * Returns the ids of the tasks whose name, description or labels contain any of the given {@code keywords}.
+     * Keywords are matched case insensitively against whole words.
+     */
+    Set<Long> getIdsOfTasksWithAnyKeyword(List<String> keywords);
+
+    /**
+     * Returns true if the name, description or labels of {@code task} contain any of the given {@code keywords}.
+     * Keywords are matched case insensitively against whole words.
+     */
+    boolean hasAnyKeyword(Task task, List<String> keywords);
+
+    /**
+     * Returns the tasks with any of the given {@code labels}, matched case insensitively.
+     * Only the tasks with the labels are looked at.
+     */
+    List<Task> getTasksWithAnyLabel(Set<Label> labels);
+
     /**
      * Returns list according to topological ordering of task
      */
     List<Task> getTopologicalOrder();
 
     /**
-     * Returns the earliest time of among all dependencies of a task (recursively) for a given task
+     * Returns the earliest time of among all dependencies of a task (recursively) for a given task.
+     * Takes constant time.
      */
     DueDate getEarliestDependentTimeForNode(Task node);
 
@@ -0,0 +1,35 @@
+package seedu.address.model;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+import seedu.address.model.task.Task;
+
+/**
+ * A saved view of the filtered task list: the predicate it is filtered by and the comparator it is sorted by.
+ * Restoring the view tests each task against the saved predicate once, instead of searching a copy of the list
+ * for every task.
+ */
+public class TaskListView {
+    private final Predicate<? super Task> predicate;
+    private final Comparator<Task> comparator;
+
+    TaskListView(Predicate<? super Task> predicate, Comparator<Task> comparator) {
+        this.predicate = predicate;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the predicate of the view, or null if every task is shown.
+     */
+    Predicate<? super Task> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the comparator of the view, or null if the tasks are in the order of the task manager.
+     */
+    Comparator<Task> getComparator() {
+        return comparator;
+    }
+}
@@ -1,21 +1,21 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.achievement.AchievementRecord;
 import seedu.address.model.achievement.Level;
 import seedu.address.model.game.GameManager;
+import seedu.address.model.tag.Label;
 import seedu.address.model.task.DueDate;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.UniqueTaskList;
@@ -27,13 +27,23 @@ import seedu.address.model.task.UniqueTaskList;
 public class TaskManager implements ReadOnlyTaskManager {
 
     private final UniqueTaskList tasks;
+    private final DependencyGraph dependencyGraph;
     private final AchievementRecord achievements;
     private final GameManager gameManager;
+    // Tasks that were in progress when added or updated, earliest due date first, so that the tasks that have become
+    // overdue are found without a scan. The task stored under the id of the head is checked again before it is
+    // marked overdue, as it may have been changed since.
+    private final PriorityQueue<Task> inProgressTasks;
+    // Id given to the next task added without one. Greater than the id of every task added so far, so that the ids of
+    // removed tasks are not reused.
+    private long nextId = 1;
 
     {
         tasks = new UniqueTaskList();
+        dependencyGraph = new DependencyGraph();
         achievements = new AchievementRecord();
         gameManager = new GameManager();
+        inProgressTasks = new PriorityQueue<>(Comparator.comparing(Task::getDueDate));
     }
 
     public TaskManager() {
@@ -51,10 +61,18 @@ public class TaskManager implements ReadOnlyTaskManager {
 
     /**
      * Replaces the contents of the task list with {@code tasks}.
-     * {@code tasks} must not contain duplicate tasks.
+     * {@code tasks} must not contain duplicate tasks. Tasks without an id are given one.
      */
     public void setTasks(List<Task> tasks) {
-        this.tasks.setTasks(tasks);
+        for (Task task : tasks) {
+            nextId = Math.max(nextId, task.getId() + 1);
+        }
+        List<Task> tasksWithIds = tasks.stream().allMatch(Task::hasId)
+                ? tasks
+                : tasks.stream().map(this::assignId).collect(Collectors.toList());
+        this.tasks.setTasks(tasksWithIds);
+        dependencyGraph.setTasks(tasksWithIds);
+        rebuildOverdueQueue();
     }
 
     /**
@@ -84,30 +102,30 @@ public class TaskManager implements ReadOnlyTaskManager {
      * @return true if there are any invalid dependencies.
      */
     public boolean hasInvalidDependencies() {
+        return dependencyGraph.hasInvalidDependencies();
+    }
 
-        Predicate<Task> isCompleteTask = Task::isStatusCompleted;
-
-        // Stream of completed tasks
-        Stream<Task> allUncompleted =
-                this.getTaskList().stream().filter(isCompleteTask.negate());
-
-        // Checks if any of the uncompleted tasks are dependencies of
-        // completed tasks. Returns true if yes.
-        return
-                allUncompleted.anyMatch(uncompletedTask -> {
-                    // allCompleted is deliberated created each time
-                    // as calling anyMatch on it closes the stream.
-                    // As such, we cannot create and reuse one single
-                    // instance of the stream.
-                    Stream<Task> allCompleted =
-                            this.getTaskList()
-                                    .stream()
-                                    .filter(isCompleteTask);
-                    return
-                            allCompleted
-                                    .anyMatch(completedTask ->
-                                            completedTask.isDependentOn(uncompletedTask));
-                });
+    @Override
+    public boolean hasUncompletedDependee(Task task) {
+        return tasks.hasUncompletedDependee(task);
+    }
+
+    @Override
+    public Set<Long> getIdsOfTasksWithAnyKeyword(List<String> keywords) {
+        requireNonNull(keywords);
+        return tasks.getIdsWithAnyKeyword(keywords);
+    }
+
+    @Override
+    public boolean hasAnyKeyword(Task task, List<String> keywords) {
+        requireNonNull(keywords);
+        return tasks.hasAnyKeyword(task, keywords);
+    }
+
+    @Override
+    public List<Task> getTasksWithAnyLabel(Set<Label> labels) {
+        requireNonNull(labels);
+        return tasks.getTasksWithAnyLabel(labels);
     }
 
     //// task-level operations
@@ -124,11 +142,26 @@ public class TaskManager implements ReadOnlyTaskManager {
     }
 
     /**
-     * Adds a task to the task manager.
+     * Adds a task to the task manager, giving it an id if it has none.
      * The task must not already exist in the task manager.
      */
     public void addTask(Task p) {
-        tasks.add(p);
+        Task task = assignId(p);
+        tasks.add(task);
+        dependencyGraph.addTask(task);
+        enqueueIfInProgress(task);
+    }
+
+    /**
+     * Returns {@code task} with the next id if it has none, or {@code task} itself otherwise.
+     * Ids already taken are never handed out again.
+     */
+    private Task assignId(Task task) {
+        if (!task.hasId()) {
+            return task.withId(nextId++);
+        }
+        nextId = Math.max(nextId, task.getId() + 1);
+        return task;
     }
 
     /**
@@ -139,8 +172,9 @@ public class TaskManager implements ReadOnlyTaskManager {
     public void updateTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
 
-        tasks.setTask(target, editedTask);
-
+        Task storedTask = tasks.setTask(target, editedTask);
+        dependencyGraph.updateTask(storedTask);
+        enqueueIfInProgress(storedTask);
     }
 
     /**
@@ -148,15 +182,89 @@ public class TaskManager implements ReadOnlyTaskManager {
      * {@code key} must exist in the task manager.
      */
     public void removeTask(Task key) {
-        tasks.remove(key);
+        Task removedTask = tasks.remove(key);
+        dependencyGraph.removeTask(removedTask);
+    }
+
+    /**
+     * Replaces the tasks from index {@code from} (inclusive) to {@code to} (exclusive) of the task list with
+     * {@code replacement}, updating only the dependencies of the tasks replaced.
+     * Used to replay changes previously made to the task list.
+     */
+    void replaceTasks(int from, int to, List<Task> replacement) {
+        List<Task> replaced = tasks.replaceRange(from, to, replacement);
+        Set<Long> replacementIds = replacement.stream().map(Task::getId).collect(Collectors.toSet());
+        Set<Long> replacedIds = replaced.stream().map(Task::getId).collect(Collectors.toSet());
+        for (Task task : replaced) {
+            if (!replacementIds.contains(task.getId())) {
+                dependencyGraph.removeTask(task);
+            }
+        }
+        for (Task task : replacement) {
+            assert task.hasId();
+            nextId = Math.max(nextId, task.getId() + 1);
+            if (replacedIds.contains(task.getId())) {
+                dependencyGraph.updateTask(task);
+            } else {
+                dependencyGraph.addTask(task);
+            }
+            enqueueIfInProgress(task);
+        }
+    }
+
+    /**
+     * Marks the in-progress tasks whose due dates have passed as overdue.
+     * Only the tasks due before now are taken from the queue of in-progress tasks, so this takes constant time
+     * when no task has become overdue.
+     *
+     * @return true if any task was marked overdue
+     */
+    public boolean updateIfOverdue() {
+        long now = System.currentTimeMillis();
+        Set<Long> overdueIds = new HashSet<>();
+        while (!inProgressTasks.isEmpty() && inProgressTasks.peek().getDueDate().isOverdueAt(now)) {
+            long id = inProgressTasks.poll().getId();
+            // The task may have been changed or removed since it was queued
+            if (tasks.containsId(id) && isInProgressAndOverdueAt(tasks.getTaskById(id), now)) {
+                overdueIds.add(id);
+            }
+        }
+        if (overdueIds.isEmpty()) {
+            return false;
+        }
+
+        tasks.markOverdue(overdueIds).forEach(dependencyGraph::updateTask);
+        return true;
+    }
+
+    private static boolean isInProgressAndOverdueAt(Task task, long timeMillis) {
+        return task.isStatusInProgress() && task.getDueDate().isOverdueAt(timeMillis);
     }
 
     /**
-     * Updates tasks that are overdue
+     * Adds {@code task} to the queue of in-progress tasks if it is in progress.
+     * The queue is rebuilt once it holds more tasks that have been changed than tasks in the task manager.
      */
-    public void updateIfOverdue() {
-        tasks.updateOverdue();
+    private void enqueueIfInProgress(Task task) {
+        if (!task.isStatusInProgress()) {
+            return;
+        }
+        inProgressTasks.add(task);
+        if (inProgressTasks.size() > 2 * tasks.asUnmodifiableObservableList().size()) {
+            rebuildOverdueQueue();
+        }
+    }
 
+    /**
+     * Rebuilds the queue of in-progress tasks from the task list.
+     */
+    private void rebuildOverdueQueue() {
+        inProgressTasks.clear();
+        for (Task task : tasks) {
+            if (task.isStatusInProgress()) {
+                inProgressTasks.add(task);
+            }
+        }
     }
 
     //// achievement related operation
@@ -235,84 +343,31 @@ public class TaskManager implements ReadOnlyTaskManager {
     }
 
     public List<Task> getTopologicalOrder() {
-        DependencyGraph dg = new DependencyGraph(this.getTaskList());
-        List<String> hashes = dg.topologicalSort();
-        return getTasksFromHashes(hashes);
+        List<Long> ids = dependencyGraph.topologicalSort();
+        return getTasksFromIds(ids);
     }
 
-    public List<Task> getTasksFromHashes(List<String> hashes) {
-        HashMap<String, Task> tasks = new HashMap<>();
-        for (Task task : this.getTaskList()) {
-            tasks.put(Integer.toString(task.hashCode()), task);
-        }
-        return hashes.stream().map((hash) -> tasks.get(hash)).collect(Collectors.toList());
+    public List<Task> getTasksFromIds(List<Long> ids) {
+        return ids.stream().map(tasks::getTaskById).collect(Collectors.toList());
     }
 
     /**
-     * Returns the earliest DueDate among tasks that are directly or indirectly dependent on a given task, including
-     * the task itself
-     *
-     * @param node node to check timing for
-     * @return earliest DueDate
+     * Returns true if making {@code dependant} dependent on {@code dependee} will introduce a cyclic dependency.
      */
-    public DueDate getEarliestDependentTimeForNode(Task node) {
-        DependencyGraph dg = new DependencyGraph(this.getTaskList());
-
-        Map<Task, Set<Task>> invertedGraph = getGraphOfTasksFromGraphOfHash(dg.getPrunedInvertedGraph());
-        HashMap<Task, DueDate> memo = new HashMap<>();
-        return getEarliestDependentTimeHelper(invertedGraph, memo, node);
-
+    public boolean isCyclicDependency(Task dependant, Task dependee) {
+        requireAllNonNull(dependant, dependee);
+        return dependencyGraph.checkCyclicDependency(dependant, dependee);
     }
 
     /**
-     * Helper performs a dfs on the inverted dependency graph to find the earliest time of a task dependant among all
-     * tasks dependent on it
+     * Returns the earliest DueDate among tasks that are directly or indirectly dependent on a given task, including
+     * the task itself. Takes constant time, as the dates are updated along with the dependencies.
      *
-     * @param graph graph of all nodes in graph, mapped to the items that they are dependent on
-     * @param memo  memo stores intermediate results to prevent repeated computation
-     * @param node  node to find earliest dependent time of
+     * @param node node to check timing for
      * @return earliest DueDate
      */
-    public DueDate getEarliestDependentTimeHelper(Map<Task, Set<Task>> graph, Map<Task, DueDate> memo, Task node) {
-        if (memo.containsKey(node)) {
-            return memo.get(node);
-        }
-        DueDate earliestDate = node.getDueDate();
-        for (Task dependee : graph.get(node)) {
-            DueDate consideredDate = getEarliestDependentTimeHelper(graph, memo, dependee);
-            if (consideredDate.compareTo(earliestDate) < 0) {
-                earliestDate = consideredDate;
-            }
-        }
-
-        memo.put(node, earliestDate);
-        return earliestDate;
-    }
-
-    /**
-     * Forms a graph of tasks from a graph of strings
-     * Needed to transform modified graphs with different dependencies
-     *
-     * @param preGraph graph of strings
-     * @return mapped graph
-     */
-    public Map<Task, Set<Task>> getGraphOfTasksFromGraphOfHash(Map<String, Set<String>> preGraph) {
-        HashMap<String, Task> tasks = new HashMap<>();
-        for (Task task : this.getTaskList()) {
-            tasks.put(Integer.toString(task.hashCode()), task);
-        }
-        HashMap<Task, Set<Task>> result = new HashMap<>();
-        for (Map.Entry<String, Set<String>> entry : preGraph.entrySet()) {
-            String hash = entry.getKey();
-            Set<String> dependencies = entry.getValue();
-
-            Set<Task> newDependencies = new HashSet<>();
-            for (String dependency : dependencies) {
-                newDependencies.add(tasks.get(dependency));
-            }
-            result.put(tasks.get(hash), newDependencies);
-        }
-        return result;
+    public DueDate getEarliestDependentTimeForNode(Task node) {
+        return dependencyGraph.getEffectiveDueDate(node.getId()).orElse(node.getDueDate());
     }
 
     //// util methods
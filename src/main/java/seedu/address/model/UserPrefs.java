@@ -11,8 +11,24 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * The formats the task manager data can be stored in.
+     */
+    public enum TaskManagerStorageFormat {
+        // The whole task manager is written to the data file on every change
+        XML,
+        // Changes are appended to a journal next to the data file, which is rewritten once the journal grows long
+        JOURNAL,
+        // The whole task manager is written to the data file on every change, in a compact binary format
+        BINARY
+    }
+
     private GuiSettings guiSettings;
     private Path taskManagerFilePath = Paths.get("data", "taskmanager.xml");
+    private TaskManagerStorageFormat taskManagerStorageFormat = TaskManagerStorageFormat.XML;
+    private int undoHistoryDepth = VersionedTaskManager.DEFAULT_HISTORY_DEPTH;
+    // Whether the window is shown before the task manager data is loaded, with the data loaded in the background
+    private boolean fastStart = false;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +54,30 @@ public class UserPrefs {
         this.taskManagerFilePath = taskManagerFilePath;
     }
 
+    public TaskManagerStorageFormat getTaskManagerStorageFormat() {
+        return taskManagerStorageFormat;
+    }
+
+    public void setTaskManagerStorageFormat(TaskManagerStorageFormat taskManagerStorageFormat) {
+        this.taskManagerStorageFormat = taskManagerStorageFormat;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public boolean isFastStart() {
+        return fastStart;
+    }
+
+    public void setFastStart(boolean fastStart) {
+        this.fastStart = fastStart;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +90,15 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(taskManagerFilePath, o.taskManagerFilePath);
+                && Objects.equals(taskManagerFilePath, o.taskManagerFilePath)
+                && taskManagerStorageFormat == o.taskManagerStorageFormat
+                && undoHistoryDepth == o.undoHistoryDepth
+                && fastStart == o.fastStart;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, taskManagerFilePath);
+        return Objects.hash(guiSettings, taskManagerFilePath, taskManagerStorageFormat, undoHistoryDepth, fastStart);
     }
 
     @Override
@@ -63,6 +106,9 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + taskManagerFilePath);
+        sb.append("\nLocal data file format : " + taskManagerStorageFormat);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nFast start : " + fastStart);
         return sb.toString();
     }
 
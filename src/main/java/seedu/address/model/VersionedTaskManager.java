@@ -1,45 +1,128 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.achievement.AchievementRecord;
+import seedu.address.model.game.GameManager;
+import seedu.address.model.task.Task;
 
 /**
  * {@code TaskManager} that keeps track of its own history.
+ *
+ * Instead of a copy of the whole task manager, each commit keeps the changes made to the task list since the
+ * previous commit, so that committing takes time proportional to the number of tasks changed, and undoing or redoing
+ * a commit only replays its changes. The history keeps at most a given number of commits, evicting the oldest first.
  */
 public class VersionedTaskManager extends TaskManager {
 
-    private final List<ReadOnlyTaskManager> taskManagerStateList;
+    public static final int DEFAULT_HISTORY_DEPTH = 100;
+
+    // commits.get(i) takes the task manager from the state before it to the state after it
+    private final List<Commit> commits;
+    private final List<TaskListChange> uncommittedChanges;
+    private final int historyDepth;
     private int currentStatePointer;
 
+    private AchievementRecord committedAchievements;
+    private GameManager committedGameManager;
+
+    // Kept as a field, as the list only holds a weak reference to its listeners
+    private final ObservableList<Task> observedTaskList;
+    private boolean isReplaying;
+
     public VersionedTaskManager(ReadOnlyTaskManager initialState) {
+        this(initialState, DEFAULT_HISTORY_DEPTH);
+    }
+
+    /**
+     * Creates a {@code VersionedTaskManager} that keeps at most {@code historyDepth} commits that can be undone.
+     */
+    public VersionedTaskManager(ReadOnlyTaskManager initialState, int historyDepth) {
         super(initialState);
+        assert historyDepth > 0;
 
-        taskManagerStateList = new ArrayList<>();
-        taskManagerStateList.add(new TaskManager(initialState));
+        commits = new ArrayList<>();
+        uncommittedChanges = new ArrayList<>();
+        this.historyDepth = historyDepth;
         currentStatePointer = 0;
+        committedAchievements = getAchievementRecord();
+        committedGameManager = getGameManager();
+
+        observedTaskList = getTaskList();
+        observedTaskList.addListener(this::recordChange);
     }
 
     /**
-     * Saves a copy of the current {@code TaskManager} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Records the changes made to the task list, unless they are made by replaying the history.
+     * Changes that replace tasks with identical tasks are left out, so that the history only holds real changes.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Task> change) {
+        if (isReplaying) {
+            return;
+        }
+        while (change.next()) {
+            TaskListChange taskListChange = new TaskListChange(change.getFrom(), change.getRemoved(),
+                    change.getAddedSubList());
+            if (!taskListChange.isNoOp()) {
+                uncommittedChanges.add(taskListChange);
+            }
+        }
+    }
+
+    /**
+     * Saves the changes made since the last commit as a new state at the end of the history.
+     * Undone states are removed from the history, and the oldest state is evicted if the history is full.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        taskManagerStateList.add(new TaskManager(this));
+        AchievementRecord achievements = getAchievementRecord();
+        GameManager gameManager = getGameManager();
+        commits.add(new Commit(new ArrayList<>(uncommittedChanges), committedAchievements, achievements,
+                committedGameManager, gameManager));
+        uncommittedChanges.clear();
+        committedAchievements = achievements;
+        committedGameManager = gameManager;
         currentStatePointer++;
+
+        if (commits.size() > historyDepth) {
+            commits.remove(0);
+            currentStatePointer--;
+        }
     }
 
     /**
-     * Precondition: VersionedTaskManager is initialised with a non-empty taskManagerStateList
-     * Reverts current data to VersionedTaskManager's current commit - the commit
-     * that the {@code currentStatePointer} is pointing to.
+     * Reverts current data to VersionedTaskManager's current commit - the state
+     * that the {@code currentStatePointer} is pointing to - by undoing the uncommitted changes.
      */
     public void rollback() {
-        resetData(taskManagerStateList.get(currentStatePointer));
+        isReplaying = true;
+        for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+            uncommittedChanges.get(i).undo(this);
+        }
+        isReplaying = false;
+        uncommittedChanges.clear();
+        setAchievements(committedAchievements);
+        setGameManager(committedGameManager);
+    }
+
+    /**
+     * Forgets every commit and uncommitted change, so that the current state becomes the initial state of the history.
+     */
+    public void resetHistory() {
+        commits.clear();
+        uncommittedChanges.clear();
+        currentStatePointer = 0;
+        committedAchievements = getAchievementRecord();
+        committedGameManager = getGameManager();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        taskManagerStateList.subList(currentStatePointer + 1, taskManagerStateList.size()).clear();
+        commits.subList(currentStatePointer, commits.size()).clear();
     }
 
     /**
@@ -49,8 +132,14 @@ public class VersionedTaskManager extends TaskManager {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        rollback();
         currentStatePointer--;
-        resetData(taskManagerStateList.get(currentStatePointer));
+        Commit commit = commits.get(currentStatePointer);
+        isReplaying = true;
+        commit.undo(this);
+        isReplaying = false;
+        committedAchievements = commit.achievementsBefore;
+        committedGameManager = commit.gameManagerBefore;
     }
 
     /**
@@ -60,8 +149,14 @@ public class VersionedTaskManager extends TaskManager {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        rollback();
+        Commit commit = commits.get(currentStatePointer);
+        isReplaying = true;
+        commit.redo(this);
+        isReplaying = false;
         currentStatePointer++;
-        resetData(taskManagerStateList.get(currentStatePointer));
+        committedAchievements = commit.achievementsAfter;
+        committedGameManager = commit.gameManagerAfter;
     }
 
     /**
@@ -75,7 +170,7 @@ public class VersionedTaskManager extends TaskManager {
      * Returns true if {@code redo()} has task manager states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < taskManagerStateList.size() - 1;
+        return currentStatePointer < commits.size();
     }
 
     @Override
@@ -94,10 +189,123 @@ public class VersionedTaskManager extends TaskManager {
 
         // state check
         return super.equals(otherVersionedTaskManager)
-                && taskManagerStateList.equals(otherVersionedTaskManager.taskManagerStateList)
+                && commits.equals(otherVersionedTaskManager.commits)
                 && currentStatePointer == otherVersionedTaskManager.currentStatePointer;
     }
 
+    /**
+     * A change to a contiguous range of the task list: the tasks in {@code removed}, starting at index {@code from},
+     * were replaced by the tasks in {@code added}.
+     */
+    private static class TaskListChange {
+        private final int from;
+        private final List<Task> removed;
+        private final List<Task> added;
+
+        TaskListChange(int from, List<? extends Task> removed, List<? extends Task> added) {
+            this.from = from;
+            this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+            this.added = Collections.unmodifiableList(new ArrayList<>(added));
+        }
+
+        /**
+         * Returns true if every task was replaced by a task with the same id, data and dependencies.
+         */
+        boolean isNoOp() {
+            if (removed.size() != added.size()) {
+                return false;
+            }
+            for (int i = 0; i < removed.size(); i++) {
+                Task removedTask = removed.get(i);
+                Task addedTask = added.get(i);
+                if (removedTask.getId() != addedTask.getId() || !removedTask.equals(addedTask)
+                        || !removedTask.getDependencies().equals(addedTask.getDependencies())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void undo(TaskManager taskManager) {
+            taskManager.replaceTasks(from, from + added.size(), removed);
+        }
+
+        void redo(TaskManager taskManager) {
+            taskManager.replaceTasks(from, from + removed.size(), added);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof TaskListChange // instanceof handles nulls
+                    && from == ((TaskListChange) other).from
+                    && removed.equals(((TaskListChange) other).removed)
+                    && added.equals(((TaskListChange) other).added)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+
+    /**
+     * The changes that take the task manager from one state in the history to the next.
+     * As achievements and the game manager are small, they are kept whole for both states.
+     */
+    private static class Commit {
+        private final List<TaskListChange> changes;
+        private final AchievementRecord achievementsBefore;
+        private final AchievementRecord achievementsAfter;
+        private final GameManager gameManagerBefore;
+        private final GameManager gameManagerAfter;
+
+        Commit(List<TaskListChange> changes, AchievementRecord achievementsBefore,
+               AchievementRecord achievementsAfter, GameManager gameManagerBefore, GameManager gameManagerAfter) {
+            this.changes = changes;
+            this.achievementsBefore = achievementsBefore;
+            this.achievementsAfter = achievementsAfter;
+            this.gameManagerBefore = gameManagerBefore;
+            this.gameManagerAfter = gameManagerAfter;
+        }
+
+        /**
+         * Takes {@code taskManager} from the state after this commit to the state before it.
+         */
+        void undo(TaskManager taskManager) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(taskManager);
+            }
+            taskManager.setAchievements(achievementsBefore);
+            taskManager.setGameManager(gameManagerBefore);
+        }
+
+        /**
+         * Takes {@code taskManager} from the state before this commit to the state after it.
+         */
+        void redo(TaskManager taskManager) {
+            for (TaskListChange change : changes) {
+                change.redo(taskManager);
+            }
+            taskManager.setAchievements(achievementsAfter);
+            taskManager.setGameManager(gameManagerAfter);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Commit // instanceof handles nulls
+                    && changes.equals(((Commit) other).changes)
+                    && achievementsBefore.equals(((Commit) other).achievementsBefore)
+                    && achievementsAfter.equals(((Commit) other).achievementsAfter)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(changes, achievementsBefore, achievementsAfter);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
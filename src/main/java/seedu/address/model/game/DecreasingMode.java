@@ -68,7 +68,7 @@ public class DecreasingMode extends GameMode {
             return overdueXp;
         }
 
-        double fraction = interpolateDate(daysBefore, now, taskTo.getDueDate().valueDate);
+        double fraction = interpolateDate(daysBefore, now, new Date(taskTo.getDueDate().valueMillis));
         double xpEarned = overdueXp + (completedXp - overdueXp) * fraction;
         return (int) xpEarned;
     }
@@ -27,7 +27,7 @@ public abstract class GameMode {
             throw new XpEvaluationException("Tasks have different name.");
         }
 
-        if (!task1.getDueDate().valueDate.equals(task2.getDueDate().valueDate)) {
+        if (task1.getDueDate().valueMillis != task2.getDueDate().valueMillis) {
             throw new XpEvaluationException("Tasks have different due date.");
         }
 
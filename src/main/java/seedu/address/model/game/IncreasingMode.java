@@ -69,7 +69,7 @@ public class IncreasingMode extends GameMode {
             return boostedXp;
         }
 
-        double fraction = interpolateDate(daysBefore, now, taskTo.getDueDate().valueDate);
+        double fraction = interpolateDate(daysBefore, now, new Date(taskTo.getDueDate().valueMillis));
         double xpEarned = initialXp + (boostedXp - initialXp) * fraction;
         return (int) xpEarned;
     }
@@ -8,7 +8,7 @@ import java.util.Set;
 
 /**
  * Represents all of a Task's dependencies to other tasks in the task manager.
- * Hashes contained in the hashes field are hash codes of tasks that a Task is dependent on.
+ * Ids contained in the ids field are the ids of tasks that a Task is dependent on.
  *
  * When "this task" is used in the comments below, it refers to the task that has this dependencies object.
  * This task is the dependent task, and the tasks that it is dependent on can be referred to as the dependee tasks.
@@ -16,33 +16,47 @@ import java.util.Set;
  */
 public class Dependencies {
 
-    private final Set<String> hashes;
+    public static final String MESSAGE_DEPENDENCIES_CONSTRAINTS = "Dependencies should only contain task ids";
+
+    private final Set<Long> ids;
 
     /**
      * Constructs a {@code Dependencies}.
      *
-     * @param hashes A list of hashes of task dependencies.
+     * @param ids A set of ids of task dependencies.
      */
-    public Dependencies(Set<String> hashes) {
-        this.hashes = new HashSet<>(hashes);
+    public Dependencies(Set<Long> ids) {
+        this.ids = new HashSet<>(ids);
     }
 
     /**
      * Constructs an empty dependencies object
      */
     public Dependencies() {
-        this.hashes = new HashSet<>();
+        this.ids = new HashSet<>();
+    }
+
+    /**
+     * Returns true if a given string is a valid reference to a task id.
+     */
+    public static boolean isValidDependency(String test) {
+        try {
+            Long.parseLong(test);
+            return true;
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
     }
 
     /**
      * Adds a task that this task is dependent on.
      *
      * @param task
-     * @return new dependencies object with the additional dependee task's hashcode
+     * @return new dependencies object with the additional dependee task's id
      */
     public Dependencies concatDependency(Task task) {
-        Set<String> newValue = new HashSet<>(hashes);
-        newValue.add(Integer.toString(task.hashCode()));
+        Set<Long> newValue = new HashSet<>(ids);
+        newValue.add(task.getId());
         return new Dependencies(newValue);
     }
 
@@ -54,8 +68,8 @@ public class Dependencies {
      */
     public Dependencies spliceDependency(Task task) {
         requireNonNull(task);
-        Set<String> newValue = new HashSet<>(hashes);
-        newValue.remove(Integer.toString(task.hashCode()));
+        Set<Long> newValue = new HashSet<>(ids);
+        newValue.remove(task.getId());
         return new Dependencies(newValue);
     }
 
@@ -68,30 +82,16 @@ public class Dependencies {
      */
     public boolean containsDependency(Task task) {
         requireNonNull(task);
-        return hashes.contains(Integer.toString(task.hashCode()));
+        return ids.contains(task.getId());
     }
 
     /**
-     * Returns the hashes of all the tasks conatined within the dependencies object
+     * Returns the ids of all the tasks contained within the dependencies object
      *
-     * @return set of all hashes
+     * @return set of all ids
      */
-    public Set<String> getHashes() {
-        return hashes;
-    }
-
-    /**
-     * Returns a new dependencies object with the old hash updated to new hash
-     *
-     * @return set of all hashes
-     */
-    public Dependencies updateHash(String oldHash, String newHash) {
-        requireNonNull(oldHash);
-        requireNonNull(newHash);
-        Set<String> newValue = new HashSet<>(hashes);
-        newValue.remove(oldHash);
-        newValue.add(newHash);
-        return new Dependencies(newValue);
+    public Set<Long> getIds() {
+        return ids;
     }
 
     /**
@@ -100,14 +100,14 @@ public class Dependencies {
      * @return the number of dependencies in this Dependencies object
      */
     public Integer getDependencyCount() {
-        return hashes.size();
+        return ids.size();
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
-        for (String hash : hashes) {
-            builder.append(hash);
+        for (Long id : ids) {
+            builder.append(id);
             builder.append(" ");
         }
         return builder.toString();
@@ -117,12 +117,12 @@ public class Dependencies {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Dependencies // instanceof handles nulls
-                && hashes.equals(((Dependencies) other).hashes)); // state check
+                && ids.equals(((Dependencies) other).ids)); // state check
     }
 
     @Override
     public int hashCode() {
-        return hashes.hashCode();
+        return ids.hashCode();
     }
 
 }
@@ -3,9 +3,12 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.util.DateFormatUtil.isValidDate;
-import static seedu.address.model.util.DateFormatUtil.parseDate;
+import static seedu.address.model.util.DateFormatUtil.parseDateTime;
 
-import java.util.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 
 /**
  * Represents a due date in the {@link Task}.
@@ -19,7 +22,8 @@ public class DueDate implements Comparable<DueDate> {
                     + "Note: 24h time format";
 
     public final String value;
-    public final Date valueDate;
+    // The due date in milliseconds since the epoch, so that comparing due dates allocates nothing
+    public final long valueMillis;
 
     /**
      * Constructs a {@code DueDate}.
@@ -28,9 +32,11 @@ public class DueDate implements Comparable<DueDate> {
      */
     public DueDate(String dueDate) {
         requireNonNull(dueDate);
-        checkArgument(isValidDueDateFormat(dueDate), MESSAGE_DUEDATE_CONSTRAINTS);
+        // Validated and parsed in one pass
+        LocalDateTime dateTime = parseDateTime(dueDate);
+        checkArgument(dateTime != null, MESSAGE_DUEDATE_CONSTRAINTS);
         value = dueDate;
-        valueDate = parseDate(value);
+        valueMillis = dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
     /**
@@ -47,7 +53,21 @@ public class DueDate implements Comparable<DueDate> {
      * Returns true if a given {@code DueDate} is overdue.
      */
     public boolean isOverdue() {
-        return new Date().compareTo(valueDate) > 0;
+        return isOverdueAt(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns true if this {@code DueDate} has passed at {@code timeMillis}, in milliseconds since the epoch.
+     */
+    public boolean isOverdueAt(long timeMillis) {
+        return timeMillis > valueMillis;
+    }
+
+    /**
+     * Returns true if this {@code DueDate} is before {@code timeMillis}, in milliseconds since the epoch.
+     */
+    public boolean isBefore(long timeMillis) {
+        return valueMillis < timeMillis;
     }
 
     /**
@@ -56,7 +76,14 @@ public class DueDate implements Comparable<DueDate> {
      * @return time to the time
      */
     public long timeToDueDate() {
-        return this.valueDate.getTime() - new Date().getTime();
+        return valueMillis - System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the last millisecond of {@code date}, 2359, in milliseconds since the epoch.
+     */
+    static long getEndOfDayMillis(LocalDate date, ZoneId zone) {
+        return date.atTime(LocalTime.MAX).atZone(zone).toInstant().toEpochMilli();
     }
 
     @Override
@@ -68,24 +95,17 @@ public class DueDate implements Comparable<DueDate> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DueDate // instanceof handles nulls
-                && valueDate.equals(((DueDate) other).valueDate)); // state check
+                && valueMillis == ((DueDate) other).valueMillis); // state check
     }
 
     @Override
     public int compareTo(DueDate other) {
-        long val = this.valueDate.getTime() - other.valueDate.getTime();
-        if (val > 0) {
-            return 1;
-        } else if (val == 0) {
-            return 0;
-        } else {
-            return -1;
-        }
+        return Long.compare(valueMillis, other.valueMillis);
     }
 
     @Override
     public int hashCode() {
-        return (int) valueDate.toInstant().toEpochMilli();
+        return (int) valueMillis;
     }
 
 }
@@ -1,26 +1,37 @@
 package seedu.address.model.task;
 
-import java.util.Calendar;
-import java.util.GregorianCalendar;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.function.Predicate;
 
 /**
- * Tests that a {@code Task}'s {@code DueDate} is before the end of today.
+ * Tests that a {@code Task}'s {@code DueDate} is before the end of the month.
+ * The end of the month is found once, when the predicate is created, rather than for every task tested.
  */
 public class DueDateIsBeforeEndOfMonthPredicate implements Predicate<Task> {
 
+    private final long endOfMonthMillis;
+
+    public DueDateIsBeforeEndOfMonthPredicate() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a predicate for the end of the month that is the current month according to {@code clock}.
+     */
+    public DueDateIsBeforeEndOfMonthPredicate(Clock clock) {
+        requireNonNull(clock);
+        // Get time at the end of the month, 2359 on its last day
+        LocalDate lastDay = LocalDate.now(clock).with(TemporalAdjusters.lastDayOfMonth());
+        endOfMonthMillis = DueDate.getEndOfDayMillis(lastDay, clock.getZone());
+    }
+
     @Override
     public boolean test(Task person) {
-        // Get time at the end of the month, Sunday 2359.
-        Calendar date = new GregorianCalendar();
-        int dayOfMonth = Calendar.getInstance().getActualMaximum(Calendar.DAY_OF_MONTH);
-        date.set(Calendar.DAY_OF_MONTH, dayOfMonth);
-        date.set(Calendar.HOUR_OF_DAY, 23);
-        date.set(Calendar.MINUTE, 59);
-        date.set(Calendar.SECOND, 59);
-        date.set(Calendar.MILLISECOND, 999);
-
-        return person.getDueDate().valueDate.before(date.getTime());
+        return person.getDueDate().isBefore(endOfMonthMillis);
     }
 
     @Override
@@ -1,25 +1,38 @@
 package seedu.address.model.task;
 
-import java.util.Calendar;
-import java.util.GregorianCalendar;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.function.Predicate;
 
 /**
- * Tests that a {@code Task}'s {@code DueDate} is before the end of today.
+ * Tests that a {@code Task}'s {@code DueDate} is before the end of the week.
+ * The end of the week is found once, when the predicate is created, rather than for every task tested.
  */
 public class DueDateIsBeforeEndOfWeekPredicate implements Predicate<Task> {
 
+    private final long endOfWeekMillis;
+
+    public DueDateIsBeforeEndOfWeekPredicate() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a predicate for the end of the week that is the current week according to {@code clock}.
+     */
+    public DueDateIsBeforeEndOfWeekPredicate(Clock clock) {
+        requireNonNull(clock);
+        // Get time at the end of the week, Sunday 2359
+        LocalDate sunday = LocalDate.now(clock).with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        endOfWeekMillis = DueDate.getEndOfDayMillis(sunday, clock.getZone());
+    }
+
     @Override
     public boolean test(Task person) {
-        /** Get time at the end of the week, Sunday 2359. */
-        Calendar date = new GregorianCalendar();
-        date.set(Calendar.DAY_OF_WEEK, Calendar.SUNDAY);
-        date.set(Calendar.HOUR_OF_DAY, 23);
-        date.set(Calendar.MINUTE, 59);
-        date.set(Calendar.SECOND, 59);
-        date.set(Calendar.MILLISECOND, 999);
-
-        return person.getDueDate().valueDate.before(date.getTime());
+        return person.getDueDate().isBefore(endOfWeekMillis);
     }
 
     @Override
@@ -1,24 +1,35 @@
 package seedu.address.model.task;
 
-import java.util.Calendar;
-import java.util.GregorianCalendar;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Task}'s {@code DueDate} is before the end of today.
+ * The end of today is found once, when the predicate is created, rather than for every task tested.
  */
 public class DueDateIsBeforeTodayPredicate implements Predicate<Task> {
 
+    private final long endOfTodayMillis;
+
+    public DueDateIsBeforeTodayPredicate() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a predicate for the end of the day that is today according to {@code clock}.
+     */
+    public DueDateIsBeforeTodayPredicate(Clock clock) {
+        requireNonNull(clock);
+        // Get today's date, 2359
+        endOfTodayMillis = DueDate.getEndOfDayMillis(LocalDate.now(clock), clock.getZone());
+    }
+
     @Override
     public boolean test(Task person) {
-        /** Get today's date, 2359 */
-        Calendar date = new GregorianCalendar();
-        date.set(Calendar.HOUR_OF_DAY, 23);
-        date.set(Calendar.MINUTE, 59);
-        date.set(Calendar.SECOND, 59);
-        date.set(Calendar.MILLISECOND, 999);
-
-        return person.getDueDate().valueDate.before(date.getTime());
+        return person.getDueDate().isBefore(endOfTodayMillis);
     }
 
     @Override
@@ -1,7 +1,6 @@
 package seedu.address.model.task;
 
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import seedu.address.model.Model;
 
@@ -10,6 +9,8 @@ import seedu.address.model.Model;
  *
  * This means that it does not have any uncompleted dependencies,
  * and is not completed.
+ * The dependencies of the task are looked up by id in the task manager, so testing a task takes time proportional
+ * to its number of dependencies.
  */
 public class IsNotBlockedPredicate implements Predicate<Task> {
     private Model model;
@@ -22,20 +23,7 @@ public class IsNotBlockedPredicate implements Predicate<Task> {
 
     @Override
     public boolean test(Task task) {
-
-        return !task.isStatusCompleted()
-                && task
-                .getDependencies()
-                .getHashes()
-                .stream()
-                .map(hash -> model
-                        .getTaskManager()
-                        .getTaskList()
-                        .filtered(t -> String.valueOf(t.hashCode()).equals(hash))
-                        .get(0))
-                .filter(t -> !t.isStatusCompleted())
-                .collect(Collectors.toList())
-                .size() == 0;
+        return !task.isStatusCompleted() && !model.getTaskManager().hasUncompletedDependee(task);
     }
 
     @Override
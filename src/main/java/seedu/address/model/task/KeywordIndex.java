@@ -0,0 +1,108 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Label;
+
+/**
+ * An inverted index from the words in the name, description and labels of tasks to the ids of the tasks they
+ * appear in. Words are matched case insensitively, so every word is stored in lower case.
+ */
+public class KeywordIndex {
+
+    private final Map<String, Set<Long>> idsByKeyword = new HashMap<>();
+
+    /**
+     * Adds the words of {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        for (String keyword : getKeywords(task)) {
+            idsByKeyword.computeIfAbsent(keyword, key -> new HashSet<>()).add(task.getId());
+        }
+    }
+
+    /**
+     * Removes the words of {@code task} from the index.
+     * {@code task} must have the same words as when it was added.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        for (String keyword : getKeywords(task)) {
+            Set<Long> ids = idsByKeyword.get(keyword);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(task.getId());
+            if (ids.isEmpty()) {
+                idsByKeyword.remove(keyword);
+            }
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        idsByKeyword.clear();
+    }
+
+    /**
+     * Returns the ids of the tasks whose name, description or labels contain any of the given {@code keywords}.
+     * Each keyword must be a single word, and is matched case insensitively against whole words.
+     */
+    public Set<Long> getIdsWithAnyKeyword(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Long> ids = new HashSet<>();
+        for (String keyword : keywords) {
+            ids.addAll(idsByKeyword.getOrDefault(keyword.toLowerCase(), Collections.emptySet()));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns true if the name, description or labels of the task with the given {@code id} contain any of the
+     * given {@code keywords}.
+     * Each keyword must be a single word, and is matched case insensitively against whole words.
+     */
+    public boolean hasAnyKeyword(long id, Collection<String> keywords) {
+        requireNonNull(keywords);
+        for (String keyword : keywords) {
+            if (idsByKeyword.getOrDefault(keyword.toLowerCase(), Collections.emptySet()).contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the lower-cased words in the name, description and labels of {@code task}.
+     */
+    private static Set<String> getKeywords(Task task) {
+        Set<String> keywords = new HashSet<>();
+        addWords(keywords, task.getName().fullName);
+        addWords(keywords, task.getDescription().value);
+        for (Label label : task.getLabels()) {
+            addWords(keywords, label.labelName);
+        }
+        return keywords;
+    }
+
+    /**
+     * Adds the lower-cased words of {@code text} to {@code keywords}.
+     */
+    private static void addWords(Set<String> keywords, String text) {
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                keywords.add(word.toLowerCase());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -37,11 +38,19 @@ public class LabelMatchesAnyKeywordPredicate implements Predicate<Task> {
     public boolean test(Task task) {
         return task
             .getLabels()
-            .parallelStream()
+            .stream()
             .map(label -> new Label(label.labelName.toLowerCase()))
             .anyMatch(label -> keyLabels.contains(label));
     }
 
+    /**
+     * Returns the lower-cased labels that tasks are matched against, which can be looked up in the label index of
+     * the task manager instead of testing every task.
+     */
+    public Set<Label> getKeyLabels() {
+        return Collections.unmodifiableSet(keyLabels);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -7,7 +7,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  * Represents a Task's priority value in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPriorityValue(String)}
  */
-public class PriorityValue {
+public class PriorityValue implements Comparable<PriorityValue> {
 
     //private static final String SPECIAL_CHARACTERS = "!#$%&'*+/=?`{|}~^.-";
     public static final String MESSAGE_PRIORITY_VALUE_CONSTRAINTS = "Priority value should be a positive integer "
@@ -56,4 +56,9 @@ public class PriorityValue {
         return value.hashCode();
     }
 
+    @Override
+    public int compareTo(PriorityValue other) {
+        return Integer.compare(Integer.parseInt(value), Integer.parseInt(other.value));
+    }
+
 }
@@ -16,6 +16,13 @@ import seedu.address.model.tag.Label;
  */
 public class Task {
 
+    // Id of a task that has not been added to a task manager yet. The task manager gives it an id when it is added.
+    public static final long NO_ID = 0;
+
+    // Persistent identifier, referenced by the dependencies of other tasks.
+    // Kept across edits and excluded from equality, as it is not part of the task's data.
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final DueDate dueDate;
@@ -30,9 +37,11 @@ public class Task {
     /**
      * Every field must be present and not null.
      * Status of a new task is initialized to in progress unless specified.
+     * The task has no id until it is added to a task manager.
      */
     public Task(Name name, DueDate dueDate, PriorityValue priorityValue, Description description, Set<Label> labels) {
         requireAllNonNull(name, dueDate, priorityValue, description, labels);
+        this.id = NO_ID;
         this.name = name;
         this.dueDate = dueDate;
         this.priorityValue = priorityValue;
@@ -42,9 +51,22 @@ public class Task {
         this.dependencies = new Dependencies();
     }
 
+    /**
+     * Creates a task that has no id until it is added to a task manager.
+     */
     public Task(Name name, DueDate dueDate, PriorityValue priorityValue, Description description, Set<Label> labels,
                 Status status, Dependencies dependency) {
+        this(NO_ID, name, dueDate, priorityValue, description, labels, status, dependency);
+    }
+
+    /**
+     * Creates a task with the given {@code id}, such as a task loaded from storage or
+     * a modified copy of an existing task.
+     */
+    public Task(long id, Name name, DueDate dueDate, PriorityValue priorityValue, Description description,
+                Set<Label> labels, Status status, Dependencies dependency) {
         requireAllNonNull(name, dueDate, priorityValue, description, labels, status, dependency);
+        this.id = id;
         this.name = name;
         this.dueDate = dueDate;
         this.priorityValue = priorityValue;
@@ -54,6 +76,17 @@ public class Task {
         this.dependencies = dependency;
     }
 
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this task has been given an id, which it is once it is added to a task manager.
+     */
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
     public Name getName() {
         return name;
     }
@@ -86,8 +119,8 @@ public class Task {
         return this.dependencies;
     }
 
-    public Set<String> getDependencyHashes() {
-        return this.dependencies.getHashes();
+    public Set<Long> getDependencyIds() {
+        return this.dependencies.getIds();
     }
 
     public boolean isStatusCompleted() {
@@ -145,6 +178,7 @@ public class Task {
      */
     public Task spliceDependency(Task dependeeTask) {
         return new Task(
+                this.id,
                 this.name,
                 this.dueDate,
                 this.priorityValue,
@@ -160,6 +194,7 @@ public class Task {
      */
     public Task concatDependency(Task dependeeTask) {
         return new Task(
+                this.id,
                 this.name,
                 this.dueDate,
                 this.priorityValue,
@@ -171,17 +206,18 @@ public class Task {
     }
 
     /**
-     * Returns a new Task object with the specified dependencies updated [Non-mutating]
+     * Returns a new Task object with the same data as this task but the given id [Non-mutating]
      */
-    public Task updateHash(String oldHash, String newHash) {
+    public Task withId(long id) {
         return new Task(
+                id,
                 this.name,
                 this.dueDate,
                 this.priorityValue,
                 this.description,
                 this.labels,
                 this.status,
-                this.dependencies.updateHash(oldHash, newHash)
+                this.dependencies
         );
     }
 
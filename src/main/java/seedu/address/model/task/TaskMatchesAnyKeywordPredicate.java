@@ -0,0 +1,41 @@
+package seedu.address.model.task;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskManager;
+
+/**
+ * Tests that a {@code Task}'s {@code Name}, {@code Description} or {@code Label}s contain any of the keywords given.
+ *
+ * Each task is looked up in the keyword index of the task manager when it is tested, so the tasks that match stay
+ * up to date as tasks are added, edited or undone while the predicate is in use.
+ */
+public class TaskMatchesAnyKeywordPredicate implements Predicate<Task> {
+    private final List<String> keywords;
+    private final ReadOnlyTaskManager taskManager;
+
+    public TaskMatchesAnyKeywordPredicate(Model model, List<String> keywords) {
+        this.keywords = keywords;
+        this.taskManager = model.getTaskManager();
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return taskManager.hasAnyKeyword(task, keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskMatchesAnyKeywordPredicate // instanceof handles nulls
+                && keywords.equals(((TaskMatchesAnyKeywordPredicate) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+}
@@ -3,13 +3,22 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.tag.Label;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 
@@ -20,6 +29,15 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the UniqueTaskList. However, the removal of a task uses Task#equals(Object) so
  * as to ensure that the task with exactly the same fields will be removed.
  * <p>
+ * The identity fields used by {@code Task#isSameTask(Task)} are indexed alongside the backing list, so that
+ * duplicate checks take constant time instead of a scan over every task in the list. Tasks are also indexed by
+ * their id, which must be unique within the list as dependencies refer to tasks by id, and by their position in
+ * the list, so that a task is found and replaced without searching the list for it. The index is updated
+ * before the backing list, so that listeners to the list, such as the predicates of filtered views, find the index
+ * already reflecting the change. The words in the name, description and labels of the tasks are indexed in the
+ * same way, so that tasks are found by keyword without searching the text of every task, and so are their labels,
+ * so that the tasks with a label are found without checking the labels of every task.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
@@ -28,6 +46,16 @@ public class UniqueTaskList implements Iterable<Task> {
 
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
 
+    // Identity index: (name, due date), (name, priority value) and id of every task in internalList
+    private final Map<IdentityKey, Task> nameAndDueDateIndex = new HashMap<>();
+    private final Set<IdentityKey> nameAndPriorityValueIndex = new HashSet<>();
+    private final Map<Long, Task> idIndex = new HashMap<>();
+    // Position in internalList of the task with each id
+    private final Map<Long, Integer> positionIndex = new HashMap<>();
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    // Ids of the tasks with each label, by the lower-cased label
+    private final Map<Label, Set<Long>> labelIndex = new HashMap<>();
+
     private final Logger logger = LogsCenter.getLogger(UniqueTaskList.class);
 
 
@@ -36,18 +64,90 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return nameAndDueDateIndex.containsKey(IdentityKey.ofNameAndDueDate(toCheck))
+                || nameAndPriorityValueIndex.contains(IdentityKey.ofNameAndPriorityValue(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a task with the given {@code id}.
+     */
+    public boolean containsId(long id) {
+        return idIndex.containsKey(id);
+    }
+
+    /**
+     * Returns the task in the list with the given {@code id}.
+     *
+     * @throws TaskNotFoundException if no task in the list has the given id
+     */
+    public Task getTaskById(long id) {
+        Task task = idIndex.get(id);
+        if (task == null) {
+            throw new TaskNotFoundException();
+        }
+        return task;
+    }
+
+    /**
+     * Returns the ids of the tasks in the list whose name, description or labels contain any of the given
+     * {@code keywords}, matched case insensitively against whole words.
+     */
+    public Set<Long> getIdsWithAnyKeyword(Collection<String> keywords) {
+        return keywordIndex.getIdsWithAnyKeyword(keywords);
+    }
+
+    /**
+     * Returns true if the name, description or labels of {@code task} contain any of the given {@code keywords},
+     * matched case insensitively against whole words.
+     */
+    public boolean hasAnyKeyword(Task task, Collection<String> keywords) {
+        requireNonNull(task);
+        return keywordIndex.hasAnyKeyword(task.getId(), keywords);
+    }
+
+    /**
+     * Returns the tasks in the list with any of the given {@code labels}, matched case insensitively.
+     */
+    public List<Task> getTasksWithAnyLabel(Collection<Label> labels) {
+        requireNonNull(labels);
+        Set<Long> ids = new HashSet<>();
+        for (Label label : labels) {
+            ids.addAll(labelIndex.getOrDefault(toLowerCase(label), Collections.emptySet()));
+        }
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            tasks.add(idIndex.get(id));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns true if {@code task} is dependent on a task in the list that is not completed.
+     * Each dependency is looked up by id, so this takes time proportional to the number of dependencies of
+     * {@code task} rather than the number of tasks in the list.
+     */
+    public boolean hasUncompletedDependee(Task task) {
+        requireNonNull(task);
+        for (Long dependeeId : task.getDependencyIds()) {
+            Task dependee = idIndex.get(dependeeId);
+            if (dependee != null && !dependee.isStatusCompleted()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Adds a task to the list.
-     * The task must not already exist in the list.
+     * The task must not already exist in the list, and its id must not be used by another task in the list.
      */
     public void add(Task toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || idIndex.containsKey(toAdd.getId())) {
             throw new DuplicateTaskException();
         }
+        addToIndex(toAdd);
+        positionIndex.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -55,69 +155,80 @@ public class UniqueTaskList implements Iterable<Task> {
      * Replaces the task {@code target} in the list with {@code editedTask}.
      * {@code target} must exist in the list.
      * The task identity of {@code editedTask} must not be the same as another existing task in the list.
+     * {@code editedTask} takes over the id of {@code target}, so tasks that are dependent on {@code target}
+     * become dependent on {@code editedTask} without having to be updated.
      *
      * @param target     target tasked to be replaced
      * @param editedTask task to replace target with
+     * @return the task stored in place of target
      */
-    public void setTask(Task target, Task editedTask) {
+    public Task setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new TaskNotFoundException();
-        }
-
-        if (!target.isSameTask(editedTask) && contains(editedTask)) {
+        Task targetInList = find(target);
+        // The keys of the target are removed first, so that editedTask is checked against every other task, even
+        // one that shares an identity key with editedTask but not with the target
+        removeFromIndex(targetInList);
+        if (contains(editedTask)) {
+            addToIndex(targetInList);
             throw new DuplicateTaskException();
         }
-        //Update dependencies to target task with the hash of the edited task if task was edited and hashcode changed
-        String oldHash = Integer.toString(target.hashCode());
-        String newHash = Integer.toString(editedTask.hashCode());
-        if (!oldHash.equals(newHash)) {
-            logger.info("Updating dependencies to edited task");
-            for (int i = 0; i < internalList.size(); i++) {
-                Task task = internalList.get(i);
-                if (task.isDependentOn(target)) {
-                    Task newTask = createUpdatedHashReferenceTask(task, oldHash, newHash);
-                    internalList.set(i, newTask);
-                }
-            }
-        }
 
-        internalList.set(index, editedTask);
-    }
-
-    /**
-     * When a task is edited, a similar task with a new hashcode is generated. Tasks that are dependant
-     * on the edited task should have their task dependency hashcode updated.
-     *
-     * @param taskToEdit task with dependency to be updated to that of the new hash
-     * @param oldHash    old hash of task
-     * @param newHash    new hash of task
-     * @return new task with dependency updated
-     */
-    private Task createUpdatedHashReferenceTask(Task taskToEdit, String oldHash, String newHash) {
-        return taskToEdit.updateHash(oldHash, newHash);
+        Task taskToStore = editedTask.getId() == targetInList.getId()
+                ? editedTask
+                : editedTask.withId(targetInList.getId());
+        addToIndex(taskToStore);
+        internalList.set(positionIndex.get(taskToStore.getId()), taskToStore);
+        return taskToStore;
     }
 
     /**
      * Removes the equivalent task from the list.
      * The task must exist in the list.
+     *
+     * @return the task removed from the list
      */
-    public void remove(Task toRemove) {
+    public Task remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new TaskNotFoundException();
+        Task removedTask = find(toRemove);
+        int index = positionIndex.remove(removedTask.getId());
+        removeFromIndex(removedTask);
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getId(), i - 1);
         }
+        internalList.remove(index);
         //Remove all dependencies that are on task to be remove
+        logger.info("Removing dependencies to deleted task");
         for (int i = 0; i < internalList.size(); i++) {
-            logger.info("Removing dependencies to deleted task");
             Task task = internalList.get(i);
-            if (task.isDependentOn(toRemove)) {
-                Task newTask = createUndependantTask(task, toRemove);
+            if (task.isDependentOn(removedTask)) {
+                Task newTask = createUndependantTask(task, removedTask);
+                idIndex.put(newTask.getId(), newTask);
                 internalList.set(i, newTask);
             }
         }
+        return removedTask;
+    }
+
+    /**
+     * Returns the task in the list that is equal to {@code task}.
+     * The task is looked up by its id, or by its name and due date if the task with its id is not equal to it, so
+     * that it is found without searching the list.
+     *
+     * @throws TaskNotFoundException if no task in the list is equal to {@code task}
+     */
+    private Task find(Task task) {
+        Task taskInList = idIndex.get(task.getId());
+        if (taskInList == null || !taskInList.equals(task)) {
+            // Equal tasks have the same name and due date, and no two tasks in the list do. The task indexed under
+            // them may since have been replaced under its id, such as by removing a dependency from it
+            Task taskWithIdentity = nameAndDueDateIndex.get(IdentityKey.ofNameAndDueDate(task));
+            taskInList = taskWithIdentity == null ? null : idIndex.get(taskWithIdentity.getId());
+        }
+        if (taskInList == null || !taskInList.equals(task)) {
+            throw new TaskNotFoundException();
+        }
+        return taskInList;
     }
 
     /**
@@ -134,6 +245,7 @@ public class UniqueTaskList implements Iterable<Task> {
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -147,21 +259,59 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
+        rebuildIndex(tasks);
         internalList.setAll(tasks);
     }
+    /**
+     * Replaces the tasks from index {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * Used to replay changes previously made to the list, so the resulting list must not contain duplicate tasks.
+     *
+     * @return the tasks that were replaced
+     */
+    public List<Task> replaceRange(int from, int to, List<Task> replacement) {
+        requireAllNonNull(replacement);
+        List<Task> range = internalList.subList(from, to);
+        List<Task> replaced = new ArrayList<>(range);
+        replaced.forEach(this::removeFromIndex);
+        replacement.forEach(this::addToIndex);
+        replaced.forEach(task -> positionIndex.remove(task.getId()));
+        for (int i = 0; i < replacement.size(); i++) {
+            positionIndex.put(replacement.get(i).getId(), from + i);
+        }
+        for (int i = to; i < internalList.size() && replaced.size() != replacement.size(); i++) {
+            positionIndex.put(internalList.get(i).getId(), i - replaced.size() + replacement.size());
+        }
+        if (replaced.size() == replacement.size()) {
+            for (int i = 0; i < replacement.size(); i++) {
+                internalList.set(from + i, replacement.get(i));
+            }
+        } else {
+            range.clear();
+            internalList.addAll(from, replacement);
+        }
+        return replaced;
+    }
+
     //==============Check overdue state of tasks =============================
 
     /**
-     * Checks overdue state of task and updates all relevant tasks
+     * Marks the tasks in the list with the given {@code ids} as overdue.
+     * Each task is found by its position, so only the tasks marked are looked at.
+     *
+     * @return the tasks stored in place of the tasks marked overdue
      */
-    public void updateOverdue() {
-        for (int i = 0; i < internalList.size(); i++) {
-            Task task = internalList.get(i);
-            if (task.isOverdue() && task.isStatusInProgress()) {
-                Task updatedTask = createOverdueTask(task);
-                setTask(task, updatedTask);
-            }
+    public List<Task> markOverdue(Set<Long> ids) {
+        requireNonNull(ids);
+        List<Task> overdueTasks = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            int position = positionIndex.get(id);
+            Task overdueTask = createOverdueTask(internalList.get(position));
+            // The identity fields are unchanged, so only the task stored under the id needs replacing
+            idIndex.put(overdueTask.getId(), overdueTask);
+            internalList.set(position, overdueTask);
+            overdueTasks.add(overdueTask);
         }
+        return overdueTasks;
     }
 
     /**
@@ -171,8 +321,8 @@ public class UniqueTaskList implements Iterable<Task> {
      * @return
      */
     private Task createOverdueTask(Task taskToEdit) {
-        return new Task(taskToEdit.getName(), taskToEdit.getDueDate(), taskToEdit.getPriorityValue(),
-                taskToEdit.getDescription(), taskToEdit.getLabels(), Status.OVERDUE,
+        return new Task(taskToEdit.getId(), taskToEdit.getName(), taskToEdit.getDueDate(),
+                taskToEdit.getPriorityValue(), taskToEdit.getDescription(), taskToEdit.getLabels(), Status.OVERDUE,
                 taskToEdit.getDependencies());
     }
 
@@ -204,13 +354,109 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seenNameAndDueDates = new HashSet<>();
+        Set<IdentityKey> seenNameAndPriorityValues = new HashSet<>();
+        Set<Long> seenIds = new HashSet<>();
+        for (Task task : tasks) {
+            // Set#add returns false if an equivalent key has already been seen
+            if (!seenNameAndDueDates.add(IdentityKey.ofNameAndDueDate(task))
+                    || !seenNameAndPriorityValues.add(IdentityKey.ofNameAndPriorityValue(task))
+                    || !seenIds.add(task.getId())) {
+                return false;
             }
         }
         return true;
     }
+
+    //==============Identity index =============================
+
+    /**
+     * Adds the identity keys, id, words and labels of {@code task} to the index.
+     */
+    private void addToIndex(Task task) {
+        nameAndDueDateIndex.put(IdentityKey.ofNameAndDueDate(task), task);
+        nameAndPriorityValueIndex.add(IdentityKey.ofNameAndPriorityValue(task));
+        idIndex.put(task.getId(), task);
+        keywordIndex.add(task);
+        for (Label label : task.getLabels()) {
+            labelIndex.computeIfAbsent(toLowerCase(label), key -> new HashSet<>()).add(task.getId());
+        }
+    }
+
+    /**
+     * Removes the identity keys, id, words and labels of {@code task} from the index. Its position is left to the
+     * caller, as it depends on how the list changes.
+     * As no two tasks in the list share an identity key or id, they belong to {@code task} alone.
+     */
+    private void removeFromIndex(Task task) {
+        nameAndDueDateIndex.remove(IdentityKey.ofNameAndDueDate(task));
+        nameAndPriorityValueIndex.remove(IdentityKey.ofNameAndPriorityValue(task));
+        idIndex.remove(task.getId());
+        keywordIndex.remove(task);
+        for (Label label : task.getLabels()) {
+            Set<Long> ids = labelIndex.get(toLowerCase(label));
+            ids.remove(task.getId());
+            if (ids.isEmpty()) {
+                labelIndex.remove(toLowerCase(label));
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index from {@code tasks}, which are about to become the contents of the backing list.
+     */
+    private void rebuildIndex(List<Task> tasks) {
+        nameAndDueDateIndex.clear();
+        nameAndPriorityValueIndex.clear();
+        idIndex.clear();
+        positionIndex.clear();
+        keywordIndex.clear();
+        labelIndex.clear();
+        tasks.forEach(this::addToIndex);
+        for (int i = 0; i < tasks.size(); i++) {
+            positionIndex.put(tasks.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns {@code label} in lower case, as it is stored in the label index.
+     */
+    private static Label toLowerCase(Label label) {
+        return new Label(label.labelName.toLowerCase());
+    }
+
+    /**
+     * A pair of a task's name and one of its other identity fields.
+     * Two tasks are the same task (by {@code Task#isSameTask(Task)}) iff they share at least one such pair.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object field;
+
+        private IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        static IdentityKey ofNameAndDueDate(Task task) {
+            return new IdentityKey(task.getName(), task.getDueDate());
+        }
+
+        static IdentityKey ofNameAndPriorityValue(Task task) {
+            return new IdentityKey(task.getName(), task.getPriorityValue());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && field.equals(((IdentityKey) other).field)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, field);
+        }
+    }
 }
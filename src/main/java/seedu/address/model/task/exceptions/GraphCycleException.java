@@ -1,10 +1,33 @@
 package seedu.address.model.task.exceptions;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Signals that the operation has detected a cyclic dependency in the dependency graph.
  */
 public class GraphCycleException extends RuntimeException {
+    private final List<Long> cycle;
+
     public GraphCycleException() {
         super("Cycle detected in dependency graph");
+        this.cycle = new ArrayList<>();
+    }
+
+    /**
+     * @param cycle ids of the tasks along the cycle, each task being dependent on the next
+     */
+    public GraphCycleException(List<Long> cycle) {
+        super("Cycle detected in dependency graph: "
+                + cycle.stream().map(String::valueOf).collect(Collectors.joining(" -> ")));
+        this.cycle = new ArrayList<>(cycle);
+    }
+
+    /**
+     * Returns the ids of the tasks along the detected cycle, or an empty list if it is not known.
+     */
+    public List<Long> getCycle() {
+        return cycle;
     }
 }
@@ -1,10 +1,17 @@
 package seedu.address.model.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Contains utility methods to handle date time strings needed for {@code Task}.
+ * Everything here is immutable, so dates may be parsed and formatted from several threads at once.
  */
 public class DateFormatUtil {
     public static final String DATE_FORMAT_MINIMAL = "dd-MM-yy";
@@ -12,13 +19,15 @@ public class DateFormatUtil {
     public static final String DATE_FORMAT_MINIMAL_REGEX = "\\d{1,2}-\\d{1,2}-(?:\\d{4}|\\d{2})";
     public static final String DATE_FORMAT_STANDARD_REGEX = "\\d{1,2}-\\d{1,2}-(?:\\d{4}|\\d{2}) \\d{4}";
 
-    public static final SimpleDateFormat FORMAT_MINIMAL;
-    public static final SimpleDateFormat FORMAT_STANDARD;
+    public static final DateTimeFormatter FORMAT_MINIMAL = DateTimeFormatter.ofPattern(DATE_FORMAT_MINIMAL);
+    public static final DateTimeFormatter FORMAT_STANDARD = DateTimeFormatter.ofPattern(DATE_FORMAT_STANDARD);
 
-    static {
-        FORMAT_MINIMAL = createDateFormat(DATE_FORMAT_MINIMAL);
-        FORMAT_STANDARD = createDateFormat(DATE_FORMAT_STANDARD);
-    }
+    // Matches both formats, capturing the day, month, year and, for the standard format, the hour and minute
+    private static final Pattern DATE_PATTERN =
+            Pattern.compile("(\\d{1,2})-(\\d{1,2})-(\\d{4}|\\d{2})(?: (\\d{2})(\\d{2}))?");
+
+    // Two-digit years are taken to be within 80 years before and 20 years after now, as SimpleDateFormat does
+    private static final int TWO_DIGIT_YEAR_START = Year.now().getValue() - 80;
 
     /**
      * Returns date from date string.
@@ -28,85 +37,65 @@ public class DateFormatUtil {
      * @return Date object from date string, else null
      */
     public static Date parseDate(String date) {
-        Date result = null;
-        try {
-            if (isValidStandardFormatDate(date)) {
-                result = FORMAT_STANDARD.parse(date);
-            } else if (isValidMinimalFormatDate(date)) {
-                result = FORMAT_MINIMAL.parse(date);
-            }
-        } catch (Exception e) {
-            result = null;
-        }
-        return result;
+        LocalDateTime result = parseDateTime(date);
+        return result == null ? null : Date.from(result.atZone(ZoneId.systemDefault()).toInstant());
     }
 
     /**
-     * Returns true if a given string is one of two valid date formats.
+     * Returns the date and time of a date string, checking that it is valid in the same pass.
      * {@link #DATE_FORMAT_MINIMAL}.{@link #DATE_FORMAT_STANDARD}
      *
-     * @param test string to be tested against the format
-     * @return true if is the correct format. False otherwise
+     * @param date string of date
+     * @return date and time from date string, else null
      */
-    public static boolean isValidDate(String test) {
-        return isValidMinimalFormatDate(test)
-                || isValidStandardFormatDate(test);
-    }
-
-    private static boolean isValidMinimalFormatDate(String test) {
-        return isValidDateFormatFromTemplates(test, FORMAT_MINIMAL, DATE_FORMAT_MINIMAL_REGEX);
-    }
-
-    private static boolean isValidStandardFormatDate(String test) {
-        return isValidDateFormatFromTemplates(test, FORMAT_STANDARD, DATE_FORMAT_STANDARD_REGEX);
-    }
+    public static LocalDateTime parseDateTime(String date) {
+        if (date == null) {
+            return null;
+        }
+        Matcher matcher = DATE_PATTERN.matcher(date);
+        if (!matcher.matches()) {
+            return null;
+        }
 
-    /**
-     * Returns true if a given string is a valid date format of its SimpleDateFormat and regex format.
-     *
-     * @param test string to be tested against the format
-     * @param format format to test string with
-     * @return true if is the correct format. False otherwise
-     */
-    private static boolean isValidDateFormatFromTemplates(String test, SimpleDateFormat format, String regex) {
-        return isValidDateFormatFromDateFormat(test, format) && isValidDateFormatFromRegex(test, regex);
+        int day = Integer.parseInt(matcher.group(1));
+        int month = Integer.parseInt(matcher.group(2));
+        int year = toFullYear(matcher.group(3));
+        int hour = matcher.group(4) == null ? 0 : Integer.parseInt(matcher.group(4));
+        int minute = matcher.group(5) == null ? 0 : Integer.parseInt(matcher.group(5));
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute);
+        } catch (DateTimeException e) {
+            return null;
+        }
     }
 
     /**
-     * Returns true if a given string is a valid date format of format
+     * Returns true if a given string is one of two valid date formats.
+     * {@link #DATE_FORMAT_MINIMAL}.{@link #DATE_FORMAT_STANDARD}
      *
      * @param test string to be tested against the format
-     * @param format format to test string with
      * @return true if is the correct format. False otherwise
      */
-    private static boolean isValidDateFormatFromDateFormat(String test, SimpleDateFormat format) {
-        try {
-            format.parse(test);
-            return true;
-        } catch (ParseException e) {
-            return false;
-        }
+    public static boolean isValidDate(String test) {
+        return parseDateTime(test) != null;
     }
 
     /**
-     * Returns true if a given string is a valid date format of regex
-     *
-     * @param test string to be tested against the format
-     * @param regex regex to test string with
-     * @return true if is the correct format. False otherwise
+     * Returns {@code date} as a string in the given format.
      */
-    private static boolean isValidDateFormatFromRegex(String test, String regex) {
-        return test.matches(regex);
+    public static String formatDate(Date date, DateTimeFormatter format) {
+        return format.format(date.toInstant().atZone(ZoneId.systemDefault()));
     }
 
     /**
-     * Creates a SimpleDateFormat for the given date format.
-     * setLenient(false) is needed for stricter date time parsing
+     * Returns the year written as {@code year}, which has either four digits or two.
      */
-    private static SimpleDateFormat createDateFormat(String template) {
-        SimpleDateFormat format = new SimpleDateFormat(template);
-        format.setLenient(false);
-        return format;
+    private static int toFullYear(String year) {
+        int value = Integer.parseInt(year);
+        if (year.length() != 2) {
+            return value;
+        }
+        return TWO_DIGIT_YEAR_START + Math.floorMod(value - TWO_DIGIT_YEAR_START, 100);
     }
 
 }
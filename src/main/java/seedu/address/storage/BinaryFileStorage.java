@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamSource;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyTaskManager;
+import seedu.address.model.TaskManager;
+import seedu.address.model.tag.Label;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.DateFormatUtil;
+
+/**
+ * Stores taskmanager data in a compact binary file, which is memory-mapped and decoded lazily when read.
+ *
+ * The file holds, in order:
+ * <ul>
+ *     <li>the magic bytes {@code WOTB} and a version byte,</li>
+ *     <li>the achievements and the game manager, each as a length-prefixed XML fragment, as they are small,</li>
+ *     <li>a string table of the labels and statuses, which are repeated across tasks,</li>
+ *     <li>the number of tasks, followed by a length-prefixed record for each task.</li>
+ * </ul>
+ * Numbers are written as varints. A task record holds its id, name, due date, priority value, description, the
+ * indices of its labels and status in the string table, and the ids of its dependencies.
+ * See {@link BinarySnapshot} for reading the file.
+ */
+public class BinaryFileStorage {
+
+    static final byte[] MAGIC = {'W', 'O', 'T', 'B'};
+    static final int VERSION = 1;
+
+    static final String ACHIEVEMENTS_ELEMENT = "achievements";
+    static final String GAME_MANAGER_ELEMENT = "gameManager";
+
+    // Flags kept with each due date, so that the date is written back in the form it was entered in
+    static final int FLAG_TWO_DIGIT_DAY = 1;
+    static final int FLAG_TWO_DIGIT_MONTH = 1 << 1;
+    static final int FLAG_FOUR_DIGIT_YEAR = 1 << 2;
+    static final int FLAG_HAS_TIME = 1 << 3;
+
+    /**
+     * Saves the given taskmanager data to the specified file.
+     * The data is first written to a temporary file next to {@code file}, which then replaces {@code file} in a
+     * single step, so that {@code file} is never left partly written.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyTaskManager taskManager) throws IOException {
+        Path tempFile = FileUtil.getTempFilePath(file);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+            writeTaskManager(out, taskManager);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        FileUtil.replaceFile(tempFile, file);
+    }
+
+    /**
+     * Returns the task manager in the file.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    public static TaskManager loadDataFromSaveFile(Path file) throws DataConversionException, IllegalValueException,
+            IOException {
+        return open(file).toModelType();
+    }
+
+    /**
+     * Memory-maps the file and reads where each of its task records is, without decoding any of them.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static BinarySnapshot open(Path file) throws DataConversionException, IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return new BinarySnapshot(buffer);
+    }
+
+    /**
+     * Returns true if {@code file} starts with the magic bytes of the binary format.
+     */
+    public static boolean isBinaryFile(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] start = new byte[MAGIC.length];
+            return in.read(start) == MAGIC.length && Arrays.equals(start, MAGIC);
+        }
+    }
+
+    /**
+     * Writes the whole of {@code taskManager} in the layout described above.
+     */
+    private static void writeTaskManager(OutputStream out, ReadOnlyTaskManager taskManager) throws IOException,
+            JAXBException {
+        out.write(MAGIC);
+        out.write(VERSION);
+
+        Marshaller marshaller = XmlUtil.borrowFragmentMarshaller(XmlSerializableTaskManager.class);
+        try {
+            writeFragment(out, marshaller, new JAXBElement<>(new QName(ACHIEVEMENTS_ELEMENT),
+                    XmlAdaptedAchievementRecord.class,
+                    new XmlAdaptedAchievementRecord(taskManager.getAchievementRecord())));
+            writeFragment(out, marshaller, new JAXBElement<>(new QName(GAME_MANAGER_ELEMENT),
+                    XmlAdaptedGameManager.class, new XmlAdaptedGameManager(taskManager.getGameManager())));
+        } finally {
+            XmlUtil.returnFragmentMarshaller(XmlSerializableTaskManager.class, marshaller);
+        }
+
+        Map<String, Integer> stringTable = createStringTable(taskManager);
+        writeVarLong(out, stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(out, string);
+        }
+
+        writeVarLong(out, taskManager.getTaskList().size());
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        for (Task task : taskManager.getTaskList()) {
+            record.reset();
+            writeTask(record, task, stringTable);
+            writeVarLong(out, record.size());
+            record.writeTo(out);
+        }
+    }
+
+    /**
+     * Writes {@code element} as a length-prefixed XML fragment.
+     */
+    private static void writeFragment(OutputStream out, Marshaller marshaller, JAXBElement<?> element)
+            throws IOException, JAXBException {
+        ByteArrayOutputStream fragment = new ByteArrayOutputStream();
+        marshaller.marshal(element, fragment);
+        writeVarLong(out, fragment.size());
+        fragment.writeTo(out);
+    }
+
+    /**
+     * Returns the index in the string table of each distinct label and status in {@code taskManager}.
+     */
+    private static Map<String, Integer> createStringTable(ReadOnlyTaskManager taskManager) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Task task : taskManager.getTaskList()) {
+            stringTable.putIfAbsent(task.getStatus().toString(), stringTable.size());
+            for (Label label : task.getLabels()) {
+                stringTable.putIfAbsent(label.labelName, stringTable.size());
+            }
+        }
+        return stringTable;
+    }
+
+    /**
+     * Writes the fields of {@code task}, referring to its labels and status by their indices in {@code stringTable}.
+     */
+    private static void writeTask(OutputStream out, Task task, Map<String, Integer> stringTable) throws IOException {
+        writeVarLong(out, task.getId());
+        writeString(out, task.getName().fullName);
+        writeDueDate(out, task.getDueDate().value);
+        writeVarLong(out, Integer.parseInt(task.getPriorityValue().value));
+        writeString(out, task.getDescription().value);
+        writeVarLong(out, task.getLabels().size());
+        for (Label label : task.getLabels()) {
+            writeVarLong(out, stringTable.get(label.labelName));
+        }
+        writeVarLong(out, stringTable.get(task.getStatus().toString()));
+        writeVarLong(out, task.getDependencyIds().size());
+        for (Long dependencyId : task.getDependencyIds()) {
+            writeVarLong(out, dependencyId);
+        }
+    }
+
+    /**
+     * Writes the due date {@code value} as the minutes from the epoch to it, in local time, followed by flags for
+     * the form it was entered in.
+     */
+    private static void writeDueDate(OutputStream out, String value) throws IOException {
+        LocalDateTime dateTime = DateFormatUtil.parseDateTime(value);
+        assert dateTime != null : "Due dates are always valid";
+        long minutes = Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+        // Zigzag encoding, as two-digit years may be before the epoch
+        writeVarLong(out, (minutes << 1) ^ (minutes >> 63));
+
+        String[] parts = value.split("[- ]");
+        int flags = (parts[0].length() == 2 ? FLAG_TWO_DIGIT_DAY : 0)
+                | (parts[1].length() == 2 ? FLAG_TWO_DIGIT_MONTH : 0)
+                | (parts[2].length() == 4 ? FLAG_FOUR_DIGIT_YEAR : 0)
+                | (parts.length == 4 ? FLAG_HAS_TIME : 0);
+        out.write(flags);
+    }
+
+    /**
+     * Writes {@code string} as its length in bytes followed by its bytes in UTF-8.
+     */
+    private static void writeString(OutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, lowest first, with the top bit of each byte set
+     * if more bytes follow.
+     */
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarLong(OutputStream, long)}.
+     *
+     * @throws BufferUnderflowException if {@code buffer} ends before the value does.
+     */
+    static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BufferUnderflowException();
+    }
+
+    /**
+     * Reads a varint that must fit in a non-negative {@code int}, such as a length, count or index.
+     */
+    static int readVarInt(ByteBuffer buffer) {
+        long value = readVarLong(buffer);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("Invalid length " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(OutputStream, String)}.
+     */
+    static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readVarInt(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a due date written by {@link #writeDueDate(OutputStream, String)} back into the form it was entered in.
+     */
+    static String readDueDate(ByteBuffer buffer) {
+        long zigzag = readVarLong(buffer);
+        long minutes = (zigzag >>> 1) ^ -(zigzag & 1);
+        int flags = buffer.get();
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+
+        StringBuilder value = new StringBuilder();
+        appendPadded(value, dateTime.getDayOfMonth(), (flags & FLAG_TWO_DIGIT_DAY) != 0 ? 2 : 1).append('-');
+        appendPadded(value, dateTime.getMonthValue(), (flags & FLAG_TWO_DIGIT_MONTH) != 0 ? 2 : 1).append('-');
+        if ((flags & FLAG_FOUR_DIGIT_YEAR) != 0) {
+            appendPadded(value, dateTime.getYear(), 4);
+        } else {
+            appendPadded(value, Math.floorMod(dateTime.getYear(), 100), 2);
+        }
+        if ((flags & FLAG_HAS_TIME) != 0) {
+            appendPadded(value.append(' '), dateTime.getHour(), 2);
+            appendPadded(value, dateTime.getMinute(), 2);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Appends the non-negative {@code number} to {@code builder} with leading zeros up to {@code width} digits.
+     */
+    private static StringBuilder appendPadded(StringBuilder builder, int number, int width) {
+        String digits = Integer.toString(number);
+        for (int i = digits.length(); i < width; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits);
+    }
+
+    /**
+     * Reads the length-prefixed XML fragment at the position of {@code buffer} into an object of {@code type}.
+     */
+    static <T> T readFragment(ByteBuffer buffer, Class<T> type) throws JAXBException {
+        byte[] bytes = new byte[readVarInt(buffer)];
+        buffer.get(bytes);
+        Unmarshaller unmarshaller = XmlUtil.borrowUnmarshaller(XmlSerializableTaskManager.class);
+        try {
+            return unmarshaller.unmarshal(new StreamSource(new ByteArrayInputStream(bytes)), type).getValue();
+        } finally {
+            XmlUtil.returnUnmarshaller(XmlSerializableTaskManager.class, unmarshaller);
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryFileStorage.readDueDate;
+import static seedu.address.storage.BinaryFileStorage.readFragment;
+import static seedu.address.storage.BinaryFileStorage.readString;
+import static seedu.address.storage.BinaryFileStorage.readVarInt;
+import static seedu.address.storage.BinaryFileStorage.readVarLong;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TaskManager;
+import seedu.address.model.tag.Label;
+import seedu.address.model.task.Dependencies;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.DueDate;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.PriorityValue;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * A task manager saved by {@link BinaryFileStorage}, read from a memory-mapped file.
+ * Only the header and string table are read when the snapshot is created. Each task is decoded from its record
+ * only when it is asked for, so a single task can be read without decoding the rest.
+ */
+public class BinarySnapshot {
+
+    private final ByteBuffer buffer;
+    private final int achievementsOffset;
+    private final int gameManagerOffset;
+    private final String[] strings;
+    // Labels created from the string table so far, so that each distinct label is validated and created once
+    private final Label[] labels;
+    private final int[] recordOffsets;
+    private final int[] recordLengths;
+
+    /**
+     * Reads the header and string table of the file in {@code buffer}, and where each task record starts.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    BinarySnapshot(ByteBuffer buffer) throws DataConversionException {
+        this.buffer = buffer;
+        ByteBuffer reader = buffer.duplicate();
+        try {
+            byte[] magic = new byte[BinaryFileStorage.MAGIC.length];
+            reader.get(magic);
+            if (!Arrays.equals(magic, BinaryFileStorage.MAGIC)) {
+                throw new DataConversionException(new IllegalArgumentException("Not a binary task manager file"));
+            }
+            int version = reader.get();
+            if (version != BinaryFileStorage.VERSION) {
+                throw new DataConversionException(new IllegalArgumentException("Unsupported version " + version));
+            }
+
+            achievementsOffset = reader.position();
+            skipRecord(reader);
+            gameManagerOffset = reader.position();
+            skipRecord(reader);
+
+            strings = new String[readVarInt(reader)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(reader);
+            }
+            labels = new Label[strings.length];
+
+            int taskCount = readVarInt(reader);
+            recordOffsets = new int[taskCount];
+            recordLengths = new int[taskCount];
+            for (int i = 0; i < taskCount; i++) {
+                recordLengths[i] = readVarInt(reader);
+                recordOffsets[i] = reader.position();
+                reader.position(recordOffsets[i] + recordLengths[i]);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    public int getTaskCount() {
+        return recordOffsets.length;
+    }
+
+    /**
+     * Decodes the task at {@code index} from its record.
+     *
+     * @throws DataConversionException if the record is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in the task.
+     */
+    public Task getTask(int index) throws DataConversionException, IllegalValueException {
+        ByteBuffer record = buffer.duplicate();
+        try {
+            record.position(recordOffsets[index]);
+            record.limit(recordOffsets[index] + recordLengths[index]);
+            return decodeTask(record);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Decodes every task, the achievements and the game manager into the model's {@code TaskManager} object.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public TaskManager toModelType() throws DataConversionException, IllegalValueException {
+        List<Task> tasks = new ArrayList<>(getTaskCount());
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < getTaskCount(); i++) {
+            Task task = getTask(i);
+            if (!ids.add(task.getId())) {
+                throw new IllegalValueException(XmlSerializableTaskManager.MESSAGE_DUPLICATE_TASK);
+            }
+            tasks.add(task);
+        }
+
+        TaskManager taskManager = new TaskManager();
+        try {
+            taskManager.setTasks(tasks);
+        } catch (DuplicateTaskException dte) {
+            throw new IllegalValueException(XmlSerializableTaskManager.MESSAGE_DUPLICATE_TASK);
+        }
+
+        ByteBuffer reader = buffer.duplicate();
+        try {
+            reader.position(achievementsOffset);
+            taskManager.setAchievements(readFragment(reader, XmlAdaptedAchievementRecord.class).toModelType());
+            reader.position(gameManagerOffset);
+            taskManager.setGameManager(readFragment(reader, XmlAdaptedGameManager.class).toModelType());
+        } catch (JAXBException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+        return taskManager;
+    }
+
+    /**
+     * Decodes the task record at the position of {@code record}, in the order written by {@link BinaryFileStorage}.
+     */
+    private Task decodeTask(ByteBuffer record) throws IllegalValueException {
+        long id = readVarLong(record);
+
+        String name = readString(record);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        }
+        String dueDate = readDueDate(record);
+        if (!DueDate.isValidDueDateFormat(dueDate)) {
+            throw new IllegalValueException(DueDate.MESSAGE_DUEDATE_CONSTRAINTS);
+        }
+        String priorityValue = String.valueOf(readVarLong(record));
+        if (!PriorityValue.isValidPriorityValue(priorityValue)) {
+            throw new IllegalValueException(PriorityValue.MESSAGE_PRIORITY_VALUE_CONSTRAINTS);
+        }
+        String description = readString(record);
+        if (!Description.isValidDescription(description)) {
+            throw new IllegalValueException(Description.MESSAGE_DESCRIPTION_CONSTRAINTS);
+        }
+
+        Set<Label> taskLabels = new HashSet<>();
+        int labelCount = readVarInt(record);
+        for (int i = 0; i < labelCount; i++) {
+            taskLabels.add(getLabel(readVarInt(record)));
+        }
+
+        String status = strings[readVarInt(record)];
+        if (!Status.isValidStatus(status)) {
+            throw new IllegalValueException(Status.MESSAGE_STATUS_CONSTRAINTS);
+        }
+
+        Set<Long> dependencyIds = new HashSet<>();
+        int dependencyCount = readVarInt(record);
+        for (int i = 0; i < dependencyCount; i++) {
+            dependencyIds.add(readVarLong(record));
+        }
+
+        return new Task(id, new Name(name), new DueDate(dueDate), new PriorityValue(priorityValue),
+                new Description(description), taskLabels, Status.fromString(status), new Dependencies(dependencyIds));
+    }
+
+    /**
+     * Returns the label named by the string at {@code index} of the string table.
+     */
+    private Label getLabel(int index) throws IllegalValueException {
+        if (labels[index] == null) {
+            if (!Label.isValidLabelName(strings[index])) {
+                throw new IllegalValueException(Label.MESSAGE_LABEL_CONSTRAINTS);
+            }
+            labels[index] = new Label(strings[index]);
+        }
+        return labels[index];
+    }
+
+    /**
+     * Moves {@code reader} past the length-prefixed record at its position.
+     */
+    private static void skipRecord(ByteBuffer reader) {
+        int length = readVarInt(reader);
+        reader.position(reader.position() + length);
+    }
+}
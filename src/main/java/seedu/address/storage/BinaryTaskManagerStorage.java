@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskManager;
+
+/**
+ * A class to access TaskManager data stored as a binary file on the hard disk.
+ * See {@link TaskManagerFileConverter} for converting the file to and from XML.
+ *
+ * Until the binary file is first saved, the data is imported from an XML data file, so that switching to the binary
+ * format keeps the existing data. The XML data file itself is never written to.
+ */
+public class BinaryTaskManagerStorage implements TaskManagerStorage {
+
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String XML_FILE_EXTENSION = ".xml";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskManagerStorage.class);
+
+    private Path filePath;
+    private Path xmlFilePath;
+
+    public BinaryTaskManagerStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code BinaryTaskManagerStorage} for the binary file at {@code filePath}, which imports the XML data
+     * file at {@code xmlFilePath} while the binary file does not exist.
+     */
+    public BinaryTaskManagerStorage(Path filePath, Path xmlFilePath) {
+        this.filePath = filePath;
+        this.xmlFilePath = xmlFilePath;
+    }
+
+    /**
+     * Returns the path of the binary file for the XML data file at {@code xmlFilePath}, which is the same path with
+     * its extension changed.
+     */
+    public static Path getBinaryFilePath(Path xmlFilePath) {
+        String fileName = xmlFilePath.getFileName().toString();
+        if (fileName.endsWith(XML_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - XML_FILE_EXTENSION.length());
+        }
+        return xmlFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    public Path getTaskManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
+        if (!Files.exists(filePath) && xmlFilePath != null && Files.exists(xmlFilePath)) {
+            logger.info("TaskManager file " + filePath + " not found, importing " + xmlFilePath);
+            return readTaskManager(xmlFilePath);
+        }
+        return readTaskManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskManager()}
+     * The file is read as XML if it is not in the binary format.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is in neither format.
+     */
+    public Optional<ReadOnlyTaskManager> readTaskManager(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("TaskManager file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!BinaryFileStorage.isBinaryFile(filePath)) {
+                logger.info("TaskManager file " + filePath + " is not a binary file, reading it as XML");
+                return Optional.of(XmlStreamFileStorage.loadDataFromSaveFile(filePath));
+            }
+            return Optional.of(BinaryFileStorage.loadDataFromSaveFile(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
+        saveTaskManager(taskManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskManager(ReadOnlyTaskManager)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveTaskManager(ReadOnlyTaskManager taskManager, Path filePath) throws IOException {
+        requireNonNull(taskManager);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryFileStorage.saveDataToFile(filePath, taskManager);
+    }
+
+}
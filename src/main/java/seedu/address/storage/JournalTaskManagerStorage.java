@@ -0,0 +1,353 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyTaskManager;
+import seedu.address.model.TaskManager;
+import seedu.address.model.achievement.AchievementRecord;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * A class to access TaskManager data stored as an xml snapshot together with a journal of the changes made since
+ * the snapshot was written.
+ *
+ * Saving only appends records of the tasks added, edited and deleted, and of changes to the achievements and game
+ * mode, to the journal, one record per line. Once the journal holds more than a given number of records, or the
+ * change cannot be expressed as records (such as tasks being reordered), the whole task manager is written as a new
+ * snapshot and the journal is deleted. Reading replays the journal on top of the snapshot.
+ */
+public class JournalTaskManagerStorage extends XmlTaskManagerStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    // Number of bytes read at a time from the end of the journal when looking for its last line break
+    private static final int TRUNCATION_SCAN_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaskManagerStorage.class);
+
+    private final int compactionThreshold;
+
+    // The data last saved to or read from savedFilePath, which further changes are recorded against
+    private Path savedFilePath;
+    private Map<Long, Task> savedTasks;
+    private AchievementRecord savedAchievements;
+    private XmlAdaptedGameManager savedGameManager;
+    private int journalLength;
+
+    public JournalTaskManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalTaskManagerStorage} that writes a new snapshot once the journal would hold more than
+     * {@code compactionThreshold} records.
+     */
+    public JournalTaskManagerStorage(Path filePath, int compactionThreshold) {
+        super(filePath);
+        assert compactionThreshold >= 0;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Similar to {@link #readTaskManager()}
+     * @param filePath location of the snapshot, next to which the journal is. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskManager> readTaskManager(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<ReadOnlyTaskManager> snapshot = super.readTaskManager(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        TaskManager taskManager = new TaskManager();
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        if (snapshot.isPresent()) {
+            snapshot.get().getTaskList().forEach(task -> tasks.put(task.getId(), task));
+            taskManager.setAchievements(snapshot.get().getAchievementRecord());
+            taskManager.setGameManager(snapshot.get().getGameManager());
+        }
+        int recordsReplayed = replayJournal(journalFilePath, tasks, taskManager);
+        try {
+            taskManager.setTasks(new ArrayList<>(tasks.values()));
+        } catch (DuplicateTaskException dte) {
+            logger.info("Duplicate tasks found after replaying " + journalFilePath);
+            throw new DataConversionException(dte);
+        }
+
+        rememberSaved(filePath, taskManager, recordsReplayed);
+        return Optional.of(taskManager);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code tasks} and {@code taskManager}.
+     * An unreadable last record is ignored, as it is the result of a write that did not complete.
+     *
+     * @return the number of records applied
+     * @throws DataConversionException if any other record is not in the correct format.
+     */
+    private int replayJournal(Path journalFilePath, Map<Long, Task> tasks, TaskManager taskManager)
+            throws DataConversionException, IOException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        int recordsReplayed = 0;
+        Unmarshaller unmarshaller = null;
+        try {
+            unmarshaller = XmlUtil.borrowUnmarshaller(XmlAdaptedJournalRecord.class);
+            for (int i = 0; i < lines.size(); i++) {
+                XmlAdaptedJournalRecord record;
+                try {
+                    record = (XmlAdaptedJournalRecord) unmarshaller.unmarshal(new StringReader(lines.get(i)));
+                } catch (JAXBException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring incomplete last record of " + journalFilePath);
+                    break;
+                }
+                record.applyTo(tasks, taskManager);
+                recordsReplayed++;
+            }
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            if (unmarshaller != null) {
+                XmlUtil.returnUnmarshaller(XmlAdaptedJournalRecord.class, unmarshaller);
+            }
+        }
+        return recordsReplayed;
+    }
+
+    /**
+     * Similar to {@link #saveTaskManager(ReadOnlyTaskManager)}
+     * @param filePath location of the snapshot, next to which the journal is. Cannot be null
+     */
+    @Override
+    public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, Path filePath) throws IOException {
+        requireNonNull(taskManager);
+        requireNonNull(filePath);
+
+        Optional<List<XmlAdaptedJournalRecord>> records = filePath.equals(savedFilePath)
+                ? getChangesSinceSaved(taskManager)
+                : Optional.empty();
+        if (!records.isPresent() || journalLength + records.get().size() > compactionThreshold) {
+            super.saveTaskManager(taskManager, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            rememberSaved(filePath, taskManager, 0);
+        } else {
+            appendToJournal(getJournalFilePath(filePath), records.get());
+            rememberSaved(filePath, taskManager, journalLength + records.get().size());
+        }
+    }
+
+    /**
+     * Returns the records that take the data last saved to the current snapshot and journal to {@code taskManager},
+     * or {@code Optional.empty()} if the order of the tasks in {@code taskManager} cannot be reached by records:
+     * tasks that were saved must stay in the same order, and new tasks must come after them.
+     */
+    private Optional<List<XmlAdaptedJournalRecord>> getChangesSinceSaved(ReadOnlyTaskManager taskManager) {
+        List<Task> taskList = taskManager.getTaskList();
+        List<XmlAdaptedJournalRecord> records = new ArrayList<>();
+
+        Set<Long> ids = new HashSet<>();
+        taskList.forEach(task -> ids.add(task.getId()));
+        List<Long> keptIds = new ArrayList<>();
+        for (Long savedId : savedTasks.keySet()) {
+            if (ids.contains(savedId)) {
+                keptIds.add(savedId);
+            } else {
+                records.add(XmlAdaptedJournalRecord.ofDelete(savedId));
+            }
+        }
+
+        Iterator<Long> keptIdsInOrder = keptIds.iterator();
+        boolean hasNewTask = false;
+        for (Task task : taskList) {
+            Task savedTask = savedTasks.get(task.getId());
+            if (savedTask == null) {
+                hasNewTask = true;
+                records.add(XmlAdaptedJournalRecord.ofAdd(task));
+                continue;
+            }
+            if (hasNewTask || keptIdsInOrder.next() != task.getId()) {
+                return Optional.empty();
+            }
+            getChange(savedTask, task).ifPresent(records::add);
+        }
+
+        AchievementRecord achievements = taskManager.getAchievementRecord();
+        if (!achievements.equals(savedAchievements)) {
+            records.add(XmlAdaptedJournalRecord.ofAchievements(achievements));
+        }
+        if (!new XmlAdaptedGameManager(taskManager.getGameManager()).equals(savedGameManager)) {
+            records.add(XmlAdaptedJournalRecord.ofGameMode(taskManager.getGameManager()));
+        }
+        return Optional.of(records);
+    }
+
+    /**
+     * Returns the most compact record of {@code savedTask} being replaced by {@code task}, which has the same id,
+     * or {@code Optional.empty()} if the two are identical.
+     */
+    private static Optional<XmlAdaptedJournalRecord> getChange(Task savedTask, Task task) {
+        if (savedTask == task) {
+            return Optional.empty();
+        }
+        boolean isSameDependencies = savedTask.getDependencies().equals(task.getDependencies());
+        // Task#equals compares every field except the dependencies
+        if (savedTask.equals(task)) {
+            return isSameDependencies
+                    ? Optional.empty()
+                    : Optional.of(XmlAdaptedJournalRecord.ofDependencies(task));
+        }
+        boolean isOnlyStatusChanged = savedTask.getName().equals(task.getName())
+                && savedTask.getDueDate().equals(task.getDueDate())
+                && savedTask.getPriorityValue().equals(task.getPriorityValue())
+                && savedTask.getDescription().equals(task.getDescription())
+                && savedTask.getLabels().equals(task.getLabels());
+        if (isSameDependencies && isOnlyStatusChanged) {
+            return Optional.of(XmlAdaptedJournalRecord.ofStatus(task));
+        }
+        return Optional.of(XmlAdaptedJournalRecord.ofEdit(task));
+    }
+
+    /**
+     * Appends {@code records} to the journal at {@code journalFilePath}, one record per line.
+     */
+    private static void appendToJournal(Path journalFilePath, List<XmlAdaptedJournalRecord> records)
+            throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        Marshaller marshaller = null;
+        try {
+            marshaller = XmlUtil.borrowFragmentMarshaller(XmlAdaptedJournalRecord.class);
+            for (XmlAdaptedJournalRecord record : records) {
+                StringWriter writer = new StringWriter();
+                marshaller.marshal(record, writer);
+                // Line breaks can only appear in text, where they can be escaped to keep each record on one line
+                lines.append(writer.toString().replace("\r", "&#13;").replace("\n", "&#10;")).append('\n');
+            }
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        } finally {
+            if (marshaller != null) {
+                XmlUtil.returnFragmentMarshaller(XmlAdaptedJournalRecord.class, marshaller);
+            }
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        truncateIncompleteRecord(journalFilePath);
+        Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Truncates the journal at {@code journalFilePath}, if any, to its last line break, dropping an incomplete last
+     * record left by a write that did not complete. Otherwise, the records appended after it would leave it in the
+     * middle of the journal, where it can no longer be told apart from a record that is not in the correct format.
+     */
+    private static void truncateIncompleteRecord(Path journalFilePath) throws IOException {
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(TRUNCATION_SCAN_SIZE);
+            long position = size;
+            // The journal normally ends with a line break, so this usually reads a single block
+            while (position > 0) {
+                int length = (int) Math.min(buffer.capacity(), position);
+                position -= length;
+                buffer.clear().limit(length);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        throw new IOException("Journal shrank while being read: " + journalFilePath);
+                    }
+                }
+                for (int i = length - 1; i >= 0; i--) {
+                    if (buffer.get(i) == '\n') {
+                        truncate(channel, journalFilePath, position + i + 1);
+                        return;
+                    }
+                }
+            }
+            truncate(channel, journalFilePath, 0);
+        }
+    }
+
+    /**
+     * Truncates {@code channel} of the journal at {@code journalFilePath} to {@code length}, if it is any longer.
+     */
+    private static void truncate(FileChannel channel, Path journalFilePath, long length) throws IOException {
+        if (channel.size() > length) {
+            logger.warning("Dropping incomplete last record of " + journalFilePath);
+            channel.truncate(length);
+        }
+    }
+
+    /**
+     * Remembers {@code taskManager} as the data at {@code filePath}, with a journal of {@code journalLength} records.
+     */
+    private void rememberSaved(Path filePath, ReadOnlyTaskManager taskManager, int journalLength) {
+        savedFilePath = filePath;
+        savedTasks = new LinkedHashMap<>();
+        taskManager.getTaskList().forEach(task -> savedTasks.put(task.getId(), task));
+        savedAchievements = taskManager.getAchievementRecord();
+        savedGameManager = new XmlAdaptedGameManager(taskManager.getGameManager());
+        this.journalLength = journalLength;
+    }
+
+}
@@ -31,9 +31,14 @@ public interface Storage extends TaskManagerStorage, UserPrefsStorage {
     void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException;
 
     /**
-     * Saves the current version of the Task Manager to the hard disk.
+     * Saves the current version of the Task Manager to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleTaskManagerChangedEvent(TaskManagerChangedEvent tmce);
+
+    /**
+     * Writes any changes to the Task Manager that have not been saved yet, returning once they are on the hard disk.
+     */
+    void flush();
 }
@@ -2,33 +2,94 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.BaseEvent;
 import seedu.address.commons.events.model.TaskManagerChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.SaveStatusChangedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyTaskManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.achievement.AchievementRecord;
+import seedu.address.model.game.GameManager;
+import seedu.address.model.tag.Label;
+import seedu.address.model.task.DueDate;
+import seedu.address.model.task.Task;
 
 /**
  * Manages storage of TaskManager data in local storage.
+ *
+ * Changes to the task manager are saved in the background by a single writer thread. A write is only started
+ * after no change has been made for a short delay, so that a burst of changes is saved with a single write of
+ * the latest state. Events about a write are raised back on the application thread, so that all events are
+ * still raised on a single thread.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 200;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TaskManagerStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ScheduledExecutorService writer;
+    private final long saveDelayMillis;
+    private final Executor eventThread;
+
+    // The fields below are guarded by this
+    private Snapshot pendingSnapshot;
+    private int pendingWrites;
+    private long lastWriteLatencyMillis = SaveStatusChangedEvent.NO_WRITE_YET;
+    private ScheduledFuture<?> scheduledWrite;
 
     public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage) {
+        this(taskManagerStorage, userPrefsStorage, DEFAULT_SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the task manager once no change has been made for
+     * {@code saveDelayMillis} milliseconds.
+     */
+    public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelayMillis) {
+        this(taskManagerStorage, userPrefsStorage, saveDelayMillis, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the task manager once no change has been made for
+     * {@code saveDelayMillis} milliseconds, and raises the events about each write on {@code eventThread}.
+     */
+    public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelayMillis, Executor eventThread) {
         super();
+        assert saveDelayMillis >= 0;
         this.addressBookStorage = taskManagerStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.eventThread = eventThread;
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // ================ UserPrefs methods ==============================
@@ -82,11 +143,137 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        // The snapshot is taken on the thread that changed the data, as the data must not be read while it changes
+        Snapshot snapshot = new Snapshot(event.data);
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            pendingWrites++;
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+            }
+            scheduledWrite = writer.schedule(this::writePendingSnapshot, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+        raise(getSaveStatus());
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the latest snapshot that has not been written yet, if any. Only runs on the writer thread.
+     */
+    private void writePendingSnapshot() {
+        Snapshot snapshot;
+        int writesCoalesced;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            writesCoalesced = pendingWrites;
+            pendingSnapshot = null;
+            scheduledWrite = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
         try {
-            saveTaskManager(event.data);
+            saveTaskManager(snapshot);
         } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            raiseOnEventThread(new DataSavingExceptionEvent(e));
+        } catch (RuntimeException e) {
+            // Reported like a failed write, so that the write is no longer counted as pending
+            logger.severe("Unexpected exception while saving: " + StringUtil.getDetails(e));
+            raiseOnEventThread(new DataSavingExceptionEvent(e));
+        }
+        synchronized (this) {
+            lastWriteLatencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            pendingWrites -= writesCoalesced;
+        }
+        raiseOnEventThread(getSaveStatus());
+    }
+
+    /**
+     * Returns a {@code SaveStatusChangedEvent} with the current number of pending writes and last write latency.
+     */
+    private synchronized SaveStatusChangedEvent getSaveStatus() {
+        return new SaveStatusChangedEvent(pendingWrites, lastWriteLatencyMillis);
+    }
+
+    /**
+     * Raises {@code event} on the event thread rather than on the writer thread.
+     */
+    private void raiseOnEventThread(BaseEvent event) {
+        eventThread.execute(() -> raise(event));
+    }
+
+    /**
+     * A copy of the data of a task manager at one point in time.
+     * Taking the copy is cheap, as tasks are immutable and only the list of tasks is copied. No indexes are built
+     * for the copy, as it is only written out, so it only supports reading its data.
+     */
+    private static class Snapshot implements ReadOnlyTaskManager {
+        private final ObservableList<Task> tasks;
+        private final AchievementRecord achievements;
+        private final GameManager gameManager;
+
+        Snapshot(ReadOnlyTaskManager data) {
+            tasks = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(data.getTaskList()));
+            achievements = data.getAchievementRecord();
+            gameManager = data.getGameManager();
+        }
+
+        @Override
+        public ObservableList<Task> getTaskList() {
+            return tasks;
+        }
+
+        @Override
+        public AchievementRecord getAchievementRecord() {
+            return achievements;
+        }
+
+        @Override
+        public GameManager getGameManager() {
+            return gameManager;
+        }
+
+        @Override
+        public boolean hasUncompletedDependee(Task task) {
+            throw new UnsupportedOperationException("A snapshot only supports reading its data");
+        }
+
+        @Override
+        public Set<Long> getIdsOfTasksWithAnyKeyword(List<String> keywords) {
+            throw new UnsupportedOperationException("A snapshot only supports reading its data");
+        }
+
+        @Override
+        public boolean hasAnyKeyword(Task task, List<String> keywords) {
+            throw new UnsupportedOperationException("A snapshot only supports reading its data");
+        }
+
+        @Override
+        public List<Task> getTasksWithAnyLabel(Set<Label> labels) {
+            throw new UnsupportedOperationException("A snapshot only supports reading its data");
+        }
+
+        @Override
+        public List<Task> getTopologicalOrder() {
+            throw new UnsupportedOperationException("A snapshot only supports reading its data");
+        }
+
+        @Override
+        public DueDate getEarliestDependentTimeForNode(Task node) {
+            throw new UnsupportedOperationException("A snapshot only supports reading its data");
         }
     }
 
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.TaskManager;
+
+/**
+ * Converts taskmanager data files between the XML format, which is used for importing and exporting data, and the
+ * binary format of {@link BinaryFileStorage}.
+ */
+public class TaskManagerFileConverter {
+
+    /**
+     * Converts the file at {@code source} into the other format, writing it to {@code target}.
+     * The format of {@code source} is told from its first bytes.
+     *
+     * @throws DataConversionException if {@code source} is in neither format.
+     * @throws IllegalValueException if there were any data constraints violated in {@code source}.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IllegalValueException,
+            IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        FileUtil.createParentDirsOfFile(target);
+        if (BinaryFileStorage.isBinaryFile(source)) {
+            TaskManager taskManager = BinaryFileStorage.loadDataFromSaveFile(source);
+            XmlStreamFileStorage.saveDataToFile(target, taskManager);
+        } else {
+            TaskManager taskManager = XmlStreamFileStorage.loadDataFromSaveFile(source);
+            BinaryFileStorage.saveDataToFile(target, taskManager);
+        }
+    }
+
+    /**
+     * Converts the file given as the first argument into the other format, writing it to the second argument.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: TaskManagerFileConverter SOURCE TARGET");
+            System.exit(1);
+        }
+        convert(Paths.get(args[0]), Paths.get(args[1]));
+    }
+}
@@ -77,12 +77,12 @@ public class XmlAdaptedAchievementRecord {
         numTaskCompleted = Integer.toString(source.getNumTaskCompleted());
 
         Date nextDay = source.getNextDayBreakPoint().getTime();
-        nextDayBreakPoint = DateFormatUtil.FORMAT_STANDARD.format(nextDay);
+        nextDayBreakPoint = DateFormatUtil.formatDate(nextDay, DateFormatUtil.FORMAT_STANDARD);
         numTaskCompletedByDay = Integer.toString(source.getNumTaskCompletedByDay());
         xpValueByDay = Integer.toString(source.getXpValueByDay());
 
         Date nextWeek = source.getNextWeekBreakPoint().getTime();
-        nextWeekBreakPoint = DateFormatUtil.FORMAT_STANDARD.format(nextWeek);
+        nextWeekBreakPoint = DateFormatUtil.formatDate(nextWeek, DateFormatUtil.FORMAT_STANDARD);
         numTaskCompletedByWeek = Integer.toString(source.getNumTaskCompletedByWeek());
         xpValueByWeek = Integer.toString(source.getXpValueByWeek());
     }
@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TaskManager;
+import seedu.address.model.achievement.AchievementRecord;
+import seedu.address.model.game.GameManager;
+import seedu.address.model.task.Dependencies;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+
+/**
+ * JAXB-friendly version of a change to the task manager, as written to the journal of a
+ * {@code JournalTaskManagerStorage}. Each record only holds the fields its change needs.
+ *
+ * Applying a record takes the task to the state it describes rather than changing it relative to its current
+ * state, so applying records that are already reflected in the data leaves the data unchanged.
+ */
+@XmlRootElement(name = "record")
+public class XmlAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid.";
+
+    /**
+     * The kinds of changes a record can hold.
+     */
+    public enum Type {
+        ADD, EDIT, DELETE, STATUS, DEPENDENCY, ACHIEVEMENTS, GAME_MODE
+    }
+
+    @XmlAttribute(required = true)
+    private Type type;
+    @XmlElement
+    private Long id;
+    @XmlElement
+    private XmlAdaptedTask task;
+    @XmlElement
+    private String status;
+    @XmlElement
+    private Set<String> dependencies;
+    @XmlElement
+    private XmlAdaptedAchievementRecord achievements;
+    @XmlElement
+    private XmlAdaptedGameManager gameManager;
+
+    /**
+     * Constructs an XmlAdaptedJournalRecord.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedJournalRecord() {}
+
+    private XmlAdaptedJournalRecord(Type type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns a record of {@code task} being added.
+     */
+    public static XmlAdaptedJournalRecord ofAdd(Task task) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.ADD);
+        record.task = new XmlAdaptedTask(task);
+        return record;
+    }
+
+    /**
+     * Returns a record of the task with the id of {@code editedTask} being replaced by {@code editedTask}.
+     */
+    public static XmlAdaptedJournalRecord ofEdit(Task editedTask) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.EDIT);
+        record.task = new XmlAdaptedTask(editedTask);
+        return record;
+    }
+
+    /**
+     * Returns a record of the task with the given {@code id} being deleted.
+     */
+    public static XmlAdaptedJournalRecord ofDelete(long id) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.DELETE);
+        record.id = id;
+        return record;
+    }
+
+    /**
+     * Returns a record of the status of the task with the id of {@code editedTask} changing to its status.
+     */
+    public static XmlAdaptedJournalRecord ofStatus(Task editedTask) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.STATUS);
+        record.id = editedTask.getId();
+        record.status = editedTask.getStatus().toString();
+        return record;
+    }
+
+    /**
+     * Returns a record of the dependencies of the task with the id of {@code editedTask} changing to its
+     * dependencies.
+     */
+    public static XmlAdaptedJournalRecord ofDependencies(Task editedTask) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.DEPENDENCY);
+        record.id = editedTask.getId();
+        record.dependencies = editedTask.getDependencyIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.toSet());
+        return record;
+    }
+
+    /**
+     * Returns a record of the achievements changing to {@code achievements}.
+     */
+    public static XmlAdaptedJournalRecord ofAchievements(AchievementRecord achievements) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.ACHIEVEMENTS);
+        record.achievements = new XmlAdaptedAchievementRecord(achievements);
+        return record;
+    }
+
+    /**
+     * Returns a record of the game mode changing to that of {@code gameManager}.
+     */
+    public static XmlAdaptedJournalRecord ofGameMode(GameManager gameManager) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.GAME_MODE);
+        record.gameManager = new XmlAdaptedGameManager(gameManager);
+        return record;
+    }
+
+    /**
+     * Applies this record to the data being replayed: {@code tasks}, which maps the id of every task to the task in
+     * the order of the task list, and the achievements and game mode of {@code taskManager}.
+     * Records of changes to tasks that are not in {@code tasks} are ignored, as such tasks are deleted later on.
+     *
+     * @throws IllegalValueException if the record is missing fields or holds data constraints violations
+     */
+    public void applyTo(Map<Long, Task> tasks, TaskManager taskManager) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        switch (type) {
+        case ADD:
+            Task addedTask = requirePresent(task).toModelType();
+            tasks.put(addedTask.getId(), addedTask);
+            break;
+        case EDIT:
+            Task editedTask = requirePresent(task).toModelType();
+            tasks.computeIfPresent(editedTask.getId(), (key, oldTask) -> editedTask);
+            break;
+        case DELETE:
+            tasks.remove(requirePresent(id));
+            break;
+        case STATUS:
+            if (!Status.isValidStatus(status)) {
+                throw new IllegalValueException(Status.MESSAGE_STATUS_CONSTRAINTS);
+            }
+            tasks.computeIfPresent(requirePresent(id), (key, oldTask) -> withStatus(oldTask,
+                    Status.fromString(status)));
+            break;
+        case DEPENDENCY:
+            Dependencies modelDependencies = toModelDependencies(requirePresent(dependencies));
+            tasks.computeIfPresent(requirePresent(id), (key, oldTask) -> withDependencies(oldTask,
+                    modelDependencies));
+            break;
+        case ACHIEVEMENTS:
+            taskManager.setAchievements(requirePresent(achievements).toModelType());
+            break;
+        case GAME_MODE:
+            taskManager.setGameManager(requirePresent(gameManager).toModelType());
+            break;
+        default:
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+
+    /**
+     * Returns {@code field}, which must be present in a record of this record's type.
+     */
+    private static <T> T requirePresent(T field) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        return field;
+    }
+
+    /**
+     * Converts the ids in {@code dependencies} into the model's {@code Dependencies}.
+     */
+    private static Dependencies toModelDependencies(Set<String> dependencies) throws IllegalValueException {
+        Set<Long> dependencyIds = new HashSet<>();
+        for (String dependency : dependencies) {
+            if (!Dependencies.isValidDependency(dependency)) {
+                throw new IllegalValueException(Dependencies.MESSAGE_DEPENDENCIES_CONSTRAINTS);
+            }
+            dependencyIds.add(Long.parseLong(dependency));
+        }
+        return new Dependencies(dependencyIds);
+    }
+
+    private static Task withStatus(Task task, Status status) {
+        return new Task(task.getId(), task.getName(), task.getDueDate(), task.getPriorityValue(),
+                task.getDescription(), task.getLabels(), status, task.getDependencies());
+    }
+
+    private static Task withDependencies(Task task, Dependencies dependencies) {
+        return new Task(task.getId(), task.getName(), task.getDueDate(), task.getPriorityValue(),
+                task.getDescription(), task.getLabels(), task.getStatus(), dependencies);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -42,7 +43,11 @@ public class XmlAdaptedTask {
     @XmlElement
     private Set<String> dependencies = new HashSet<>();
     @XmlElement
+    private Long id;
+    // Only present in files saved before tasks had ids, where dependencies referred to the hash of a task
+    @XmlElement
     private String hash;
+
     /**
      * Constructs an XmlAdaptedTask.
      * This is the no-arg constructor that is required by JAXB.
@@ -82,6 +87,24 @@ public class XmlAdaptedTask {
         this.status = status.toString();
     }
 
+    /**
+     * Constructs an {@code XmlAdaptedTask} with the given fields, as read from a file.
+     * {@code id} and {@code hash} may be null, as they are missing from older files.
+     */
+    public XmlAdaptedTask(String name, String dueDate, String priorityValue, String description,
+                          List<XmlAdaptedLabel> labelled, String status, Set<String> dependencies, Long id,
+                          String hash) {
+        this.name = name;
+        this.dueDate = dueDate;
+        this.priorityValue = priorityValue;
+        this.description = description;
+        this.labelled = new ArrayList<>(labelled);
+        this.status = status;
+        this.dependencies = new HashSet<>(dependencies);
+        this.id = id;
+        this.hash = hash;
+    }
+
     /**
      * Converts a given Task into this class for JAXB use.
      *
@@ -96,8 +119,43 @@ public class XmlAdaptedTask {
                 .map(XmlAdaptedLabel::new)
                 .collect(Collectors.toList());
         status = source.getStatus().toString();
-        hash = Integer.toString(source.hashCode());
-        dependencies = source.getDependencies().getHashes();
+        id = source.getId();
+        dependencies = source.getDependencyIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns true if this task was saved before tasks had ids.
+     */
+    public boolean isLegacy() {
+        return id == null;
+    }
+
+    /**
+     * Returns the id of this task, or null if it was saved before tasks had ids.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    public String getLegacyHash() {
+        return hash;
+    }
+
+    /**
+     * Assigns this legacy task the id its hash is mapped to in {@code idsOfHashes}, and rewrites its
+     * dependencies from hashes to the ids of the tasks they refer to.
+     * Dependencies to hashes that do not belong to any task are dropped.
+     */
+    public void migrateFromHashes(Map<String, Long> idsOfHashes) {
+        assert isLegacy();
+        id = idsOfHashes.get(hash);
+        dependencies = dependencies.stream()
+                .filter(idsOfHashes::containsKey)
+                .map(dependencyHash -> String.valueOf(idsOfHashes.get(dependencyHash)))
+                .collect(Collectors.toSet());
+        hash = null;
     }
 
     /**
@@ -150,10 +208,22 @@ public class XmlAdaptedTask {
             throw new IllegalValueException(Status.MESSAGE_STATUS_CONSTRAINTS);
         }
         final Status modelStatus = Status.fromString(status);
-        final Dependencies dependency = new Dependencies(dependencies);
 
-        return new Task(modelName, modelDueDate, modelPriorityValue, modelDescription, modelLabels, modelStatus,
-                dependency);
+        final Set<Long> dependencyIds = new HashSet<>();
+        for (String dependency : dependencies) {
+            if (!Dependencies.isValidDependency(dependency)) {
+                throw new IllegalValueException(Dependencies.MESSAGE_DEPENDENCIES_CONSTRAINTS);
+            }
+            dependencyIds.add(Long.parseLong(dependency));
+        }
+        final Dependencies modelDependencies = new Dependencies(dependencyIds);
+
+        if (id == null) {
+            return new Task(modelName, modelDueDate, modelPriorityValue, modelDescription, modelLabels, modelStatus,
+                    modelDependencies);
+        }
+        return new Task(id, modelName, modelDueDate, modelPriorityValue, modelDescription, modelLabels, modelStatus,
+                modelDependencies);
     }
 
     @Override
@@ -1,11 +1,13 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
 
 /**
@@ -14,14 +16,18 @@ import seedu.address.commons.util.XmlUtil;
 public class XmlFileStorage {
     /**
      * Saves the given taskmanager data to the specified file.
+     * The data is first written to a temporary file next to {@code file}, which then replaces {@code file} in a
+     * single step, so that {@code file} is never left partly written.
      */
-    public static void saveDataToFile(Path file, XmlSerializableTaskManager taskManager)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, XmlSerializableTaskManager taskManager) throws IOException {
+        Path tempFile = FileUtil.getTempFilePath(file);
+        FileUtil.createIfMissing(tempFile);
         try {
-            XmlUtil.saveDataToFile(file, taskManager);
+            XmlUtil.saveDataToFile(tempFile, taskManager);
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
+        FileUtil.replaceFile(tempFile, file);
     }
 
     /**
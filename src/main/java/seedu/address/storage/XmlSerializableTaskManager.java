@@ -1,7 +1,14 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -11,6 +18,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTaskManager;
 import seedu.address.model.TaskManager;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
 
 /**
  * An Immutable TaskManager that is serializable to XML format
@@ -20,6 +28,9 @@ public class XmlSerializableTaskManager {
 
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
 
+    // Largest number of tasks converted on one thread, below which the conversion is not split any further
+    private static final int CONVERSION_CHUNK_SIZE = 512;
+
     @XmlElement
     private XmlAdaptedAchievementRecord achievements;
     @XmlElement
@@ -54,19 +65,117 @@ public class XmlSerializableTaskManager {
      * {@code XmlAdaptedTask}.
      */
     public TaskManager toModelType() throws IllegalValueException {
+        migrateLegacyTasks();
         TaskManager taskManager = new TaskManager();
-        for (XmlAdaptedTask p : tasks) {
-            Task task = p.toModelType();
-            if (taskManager.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
-            }
-            taskManager.addTask(task);
-        }
+        setTasks(taskManager, tasks);
         taskManager.setAchievements(achievements.toModelType());
         taskManager.setGameManager(gameManager.toModelType());
         return taskManager;
     }
 
+    /**
+     * Converts {@code adaptedTasks} into the model's {@code Task} objects in parallel, and sets them as the tasks of
+     * {@code taskManager} all at once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in
+     * {@code adaptedTasks}. The error reported is the first, as if the tasks were converted and added one by one.
+     */
+    static void setTasks(TaskManager taskManager, List<XmlAdaptedTask> adaptedTasks) throws IllegalValueException {
+        Task[] convertedTasks = new Task[adaptedTasks.size()];
+        IllegalValueException[] conversionErrors = new IllegalValueException[adaptedTasks.size()];
+        ForkJoinPool.commonPool().invoke(
+                new TaskConversion(adaptedTasks, convertedTasks, conversionErrors, 0, adaptedTasks.size()));
+
+        // Only the tasks before the first that could not be converted are set, so that a duplicate among them is
+        // reported before that error
+        int convertedCount = 0;
+        while (convertedCount < convertedTasks.length && conversionErrors[convertedCount] == null) {
+            convertedCount++;
+        }
+        List<Task> tasksToSet = Arrays.asList(convertedTasks).subList(0, convertedCount);
+        Set<Long> ids = new HashSet<>();
+        for (Task task : tasksToSet) {
+            if (task.hasId() && !ids.add(task.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+            }
+        }
+        try {
+            taskManager.setTasks(tasksToSet);
+        } catch (DuplicateTaskException dte) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+        }
+        if (convertedCount < convertedTasks.length) {
+            throw conversionErrors[convertedCount];
+        }
+    }
+
+    /**
+     * Gives ids to tasks saved before tasks had ids, and rewrites their dependencies, which referred to the
+     * hashes of tasks, to refer to those ids instead.
+     */
+    private void migrateLegacyTasks() {
+        long nextId = 1;
+        for (XmlAdaptedTask p : tasks) {
+            if (!p.isLegacy()) {
+                nextId = Math.max(nextId, p.getId() + 1);
+            }
+        }
+        Map<String, Long> idsOfHashes = new HashMap<>();
+        for (XmlAdaptedTask p : tasks) {
+            if (p.isLegacy() && p.getLegacyHash() != null && !idsOfHashes.containsKey(p.getLegacyHash())) {
+                idsOfHashes.put(p.getLegacyHash(), nextId++);
+            }
+        }
+        if (idsOfHashes.isEmpty()) {
+            return;
+        }
+        for (XmlAdaptedTask p : tasks) {
+            if (p.isLegacy()) {
+                p.migrateFromHashes(idsOfHashes);
+            }
+        }
+    }
+
+    /**
+     * Converts the adapted tasks from index {@code from} (inclusive) to {@code to} (exclusive) into the model's
+     * {@code Task} objects, splitting the range in halves to be converted in parallel until it is small enough.
+     * The task or the error from converting each adapted task is stored under its index.
+     */
+    private static class TaskConversion extends RecursiveAction {
+        private final List<XmlAdaptedTask> adaptedTasks;
+        private final Task[] convertedTasks;
+        private final IllegalValueException[] conversionErrors;
+        private final int from;
+        private final int to;
+
+        TaskConversion(List<XmlAdaptedTask> adaptedTasks, Task[] convertedTasks,
+                       IllegalValueException[] conversionErrors, int from, int to) {
+            this.adaptedTasks = adaptedTasks;
+            this.convertedTasks = convertedTasks;
+            this.conversionErrors = conversionErrors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CONVERSION_CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TaskConversion(adaptedTasks, convertedTasks, conversionErrors, from, middle),
+                        new TaskConversion(adaptedTasks, convertedTasks, conversionErrors, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    convertedTasks[i] = adaptedTasks.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    conversionErrors[i] = ive;
+                }
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,484 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyTaskManager;
+import seedu.address.model.TaskManager;
+import seedu.address.model.tag.Label;
+import seedu.address.model.task.Task;
+
+/**
+ * Stores taskmanager data in an XML file, in the same format as {@link XmlFileStorage}, by streaming it.
+ *
+ * Tasks are read without JAXB, then converted into {@code Task}s in parallel and set all at once. They are
+ * written directly from the {@code Task}s, so that writing does not keep a second copy of every task as a
+ * {@code XmlAdaptedTask}. The achievements and game manager are small, so they are still converted by JAXB.
+ *
+ * A large file is read by memory-mapping it and feeding the parser from the mapped buffer, so that it is not first
+ * copied into the buffers of a stream. A smaller file is read into a heap buffer in one go instead, as a mapping is
+ * only released once its buffer is garbage collected, and until then Windows does not allow the file to be replaced.
+ * Saving right after a large file is loaded may therefore fail on Windows.
+ *
+ * The file is written through a direct buffer, which is kept for the later saves on the same thread, and forced to
+ * the disk once per save, before it replaces the previous file.
+ */
+public class XmlStreamFileStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlStreamFileStorage.class);
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    // Files larger than this are memory-mapped when read, and the rest are read into a heap buffer
+    private static final long MAPPING_THRESHOLD = 4 * 1024 * 1024;
+
+    private static final String ENCODING = "UTF-8";
+    private static final String INDENT = "    ";
+
+    private static final String ROOT_ELEMENT = "taskmanager";
+    private static final String ACHIEVEMENTS_ELEMENT = "achievements";
+    private static final String GAME_MANAGER_ELEMENT = "gameManager";
+    private static final String TASK_ELEMENT = "tasks";
+
+    private static final String NAME_ELEMENT = "name";
+    private static final String DUE_DATE_ELEMENT = "dueDate";
+    private static final String PRIORITY_VALUE_ELEMENT = "priorityValue";
+    private static final String DESCRIPTION_ELEMENT = "description";
+    private static final String LABEL_ELEMENT = "labelled";
+    private static final String STATUS_ELEMENT = "status";
+    private static final String DEPENDENCY_ELEMENT = "dependencies";
+    private static final String ID_ELEMENT = "id";
+    private static final String HASH_ELEMENT = "hash";
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    // Saves run on a single writer thread, so each thread keeps one direct buffer for all of its saves
+    private static final ThreadLocal<ByteBuffer> writeBuffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE));
+
+    static {
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Saves the given taskmanager data to the specified file.
+     * The data is first written to a temporary file next to {@code file}, which then replaces {@code file} in a
+     * single step, so that {@code file} is never left partly written.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyTaskManager taskManager) throws IOException {
+        long startTime = System.nanoTime();
+        Path tempFile = FileUtil.getTempFilePath(file);
+        long bytesWritten;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = writeBuffers.get();
+            // The buffer may still hold bytes from an earlier save that failed
+            buffer.clear();
+            ChannelOutputStream out = new ChannelOutputStream(channel, buffer);
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, ENCODING);
+            try {
+                writeTaskManager(writer, taskManager);
+                writer.flush();
+            } finally {
+                writer.close();
+            }
+            out.flush();
+            channel.force(true);
+            bytesWritten = channel.size();
+        } catch (XMLStreamException | JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        FileUtil.replaceFile(tempFile, file);
+        logger.fine("Saved " + bytesWritten + " bytes to " + file + " in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+    }
+
+    /**
+     * Writes the whole of {@code taskManager} as a document, in the same layout as {@code XmlFileStorage}.
+     */
+    private static void writeTaskManager(XMLStreamWriter writer, ReadOnlyTaskManager taskManager)
+            throws XMLStreamException, JAXBException {
+        writer.writeStartDocument(ENCODING, "1.0");
+        writer.writeCharacters("\n");
+        writer.writeStartElement(ROOT_ELEMENT);
+
+        Marshaller marshaller = XmlUtil.borrowFragmentMarshaller(XmlSerializableTaskManager.class);
+        try {
+            writeIndent(writer, 1);
+            marshaller.marshal(new JAXBElement<>(new QName(ACHIEVEMENTS_ELEMENT), XmlAdaptedAchievementRecord.class,
+                    new XmlAdaptedAchievementRecord(taskManager.getAchievementRecord())), writer);
+            writeIndent(writer, 1);
+            marshaller.marshal(new JAXBElement<>(new QName(GAME_MANAGER_ELEMENT), XmlAdaptedGameManager.class,
+                    new XmlAdaptedGameManager(taskManager.getGameManager())), writer);
+        } finally {
+            XmlUtil.returnFragmentMarshaller(XmlSerializableTaskManager.class, marshaller);
+        }
+
+        for (Task task : taskManager.getTaskList()) {
+            writeTask(writer, task);
+        }
+
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+    }
+
+    /**
+     * Writes {@code task} with its fields in the same order as {@code XmlAdaptedTask}.
+     */
+    private static void writeTask(XMLStreamWriter writer, Task task) throws XMLStreamException {
+        writeIndent(writer, 1);
+        writer.writeStartElement(TASK_ELEMENT);
+        writeField(writer, NAME_ELEMENT, task.getName().fullName);
+        writeField(writer, DUE_DATE_ELEMENT, task.getDueDate().value);
+        writeField(writer, PRIORITY_VALUE_ELEMENT, task.getPriorityValue().value);
+        writeField(writer, DESCRIPTION_ELEMENT, task.getDescription().value);
+        for (Label label : task.getLabels()) {
+            writeField(writer, LABEL_ELEMENT, label.labelName);
+        }
+        writeField(writer, STATUS_ELEMENT, task.getStatus().toString());
+        for (Long dependencyId : task.getDependencyIds()) {
+            writeField(writer, DEPENDENCY_ELEMENT, String.valueOf(dependencyId));
+        }
+        writeField(writer, ID_ELEMENT, String.valueOf(task.getId()));
+        writeIndent(writer, 1);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an element holding only {@code value}, on a line of its own.
+     */
+    private static void writeField(XMLStreamWriter writer, String element, String value) throws XMLStreamException {
+        writeIndent(writer, 2);
+        writer.writeStartElement(element);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Starts a new line indented to {@code depth}.
+     */
+    private static void writeIndent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writer.writeCharacters("\n");
+        for (int i = 0; i < depth; i++) {
+            writer.writeCharacters(INDENT);
+        }
+    }
+
+    /**
+     * Returns the task manager in the file.
+     * A file larger than {@code MAPPING_THRESHOLD} stays memory-mapped until its buffer is garbage collected, so on
+     * Windows it cannot be replaced by a save until then.
+     * Files saved before tasks had ids, in which dependencies refer to the hashes of tasks, are read by
+     * {@link XmlFileStorage} instead, as their dependencies can only be converted once every task has been read.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    public static TaskManager loadDataFromSaveFile(Path file) throws DataConversionException, IllegalValueException,
+            IOException {
+        long startTime = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytesRead = channel.size();
+            InputStream in = new BufferInputStream(readFile(channel, bytesRead));
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            TaskManager taskManager;
+            try {
+                taskManager = readTaskManager(reader);
+            } finally {
+                reader.close();
+            }
+            logger.fine("Read " + bytesRead + " bytes from " + file + " in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+            return taskManager;
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        } catch (LegacyTaskException e) {
+            return XmlFileStorage.loadDataFromSaveFile(file).toModelType();
+        }
+    }
+
+    /**
+     * Returns a buffer holding the {@code size} bytes in {@code channel}.
+     * The file is memory-mapped if it is larger than {@code MAPPING_THRESHOLD}, and read into the heap otherwise.
+     */
+    private static ByteBuffer readFile(FileChannel channel, long size) throws IOException {
+        if (size > MAPPING_THRESHOLD) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+    /**
+     * Reads the task manager from {@code reader}, which is at the start of the document.
+     */
+    private static TaskManager readTaskManager(XMLStreamReader reader) throws XMLStreamException, JAXBException,
+            IllegalValueException, LegacyTaskException {
+        reader.nextTag();
+        if (!reader.getLocalName().equals(ROOT_ELEMENT)) {
+            throw new XMLStreamException("Unexpected root element " + reader.getLocalName(), reader.getLocation());
+        }
+
+        XmlAdaptedAchievementRecord achievements = new XmlAdaptedAchievementRecord();
+        XmlAdaptedGameManager gameManager = new XmlAdaptedGameManager();
+        List<XmlAdaptedTask> tasks = new ArrayList<>();
+
+        Unmarshaller unmarshaller = XmlUtil.borrowUnmarshaller(XmlSerializableTaskManager.class);
+        try {
+            reader.nextTag();
+            while (reader.isStartElement()) {
+                switch (reader.getLocalName()) {
+                case ACHIEVEMENTS_ELEMENT:
+                    achievements = unmarshaller.unmarshal(reader, XmlAdaptedAchievementRecord.class).getValue();
+                    break;
+                case GAME_MANAGER_ELEMENT:
+                    gameManager = unmarshaller.unmarshal(reader, XmlAdaptedGameManager.class).getValue();
+                    break;
+                case TASK_ELEMENT:
+                    tasks.add(readTask(reader));
+                    reader.next();
+                    break;
+                default:
+                    skipElement(reader);
+                    reader.next();
+                    break;
+                }
+                moveToNextTag(reader);
+            }
+        } finally {
+            XmlUtil.returnUnmarshaller(XmlSerializableTaskManager.class, unmarshaller);
+        }
+
+        TaskManager taskManager = new TaskManager();
+        XmlSerializableTaskManager.setTasks(taskManager, tasks);
+        taskManager.setAchievements(achievements.toModelType());
+        taskManager.setGameManager(gameManager.toModelType());
+        return taskManager;
+    }
+
+    /**
+     * Reads the task element that {@code reader} is at, leaving {@code reader} at the end of the element.
+     *
+     * @throws LegacyTaskException if the task was saved before tasks had ids, and has dependencies.
+     */
+    private static XmlAdaptedTask readTask(XMLStreamReader reader) throws XMLStreamException, LegacyTaskException {
+        String name = null;
+        String dueDate = null;
+        String priorityValue = null;
+        String description = null;
+        List<XmlAdaptedLabel> labelled = new ArrayList<>();
+        String status = null;
+        Set<String> dependencies = new HashSet<>();
+        Long id = null;
+        String hash = null;
+
+        while (reader.nextTag() == XMLStreamReader.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case NAME_ELEMENT:
+                name = reader.getElementText();
+                break;
+            case DUE_DATE_ELEMENT:
+                dueDate = reader.getElementText();
+                break;
+            case PRIORITY_VALUE_ELEMENT:
+                priorityValue = reader.getElementText();
+                break;
+            case DESCRIPTION_ELEMENT:
+                description = reader.getElementText();
+                break;
+            case LABEL_ELEMENT:
+                labelled.add(new XmlAdaptedLabel(reader.getElementText()));
+                break;
+            case STATUS_ELEMENT:
+                status = reader.getElementText();
+                break;
+            case DEPENDENCY_ELEMENT:
+                dependencies.add(reader.getElementText());
+                break;
+            case ID_ELEMENT:
+                id = parseId(reader);
+                break;
+            case HASH_ELEMENT:
+                hash = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+
+        if (id == null && !dependencies.isEmpty()) {
+            throw new LegacyTaskException();
+        }
+        return new XmlAdaptedTask(name, dueDate, priorityValue, description, labelled, status, dependencies, id,
+                hash);
+    }
+
+    /**
+     * Reads the text of the id element that {@code reader} is at as an id.
+     */
+    private static Long parseId(XMLStreamReader reader) throws XMLStreamException {
+        String id = reader.getElementText().trim();
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException nfe) {
+            throw new XMLStreamException("Invalid task id " + id, reader.getLocation());
+        }
+    }
+
+    /**
+     * Skips the element that {@code reader} is at, together with everything in it, leaving {@code reader} at the
+     * end of the element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamReader.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamReader.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Moves {@code reader} forward to the next start or end of an element, unless it is already at one.
+     */
+    private static void moveToNextTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.next();
+        }
+    }
+
+    /**
+     * An {@code InputStream} that reads from a buffer, such as a memory-mapped file.
+     */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * An {@code OutputStream} that collects what is written in a buffer, and writes the buffer to a channel whenever
+     * it is full and when flushed.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        ChannelOutputStream(FileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                int count = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+        }
+
+        /**
+         * Writes everything in the buffer to the channel, leaving the buffer empty.
+         */
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Signals that a task was saved before tasks had ids, and refers to other tasks by their hashes.
+     */
+    private static class LegacyTaskException extends Exception {}
+
+}
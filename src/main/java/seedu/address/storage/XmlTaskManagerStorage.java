@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -43,7 +42,7 @@ public class XmlTaskManagerStorage implements TaskManagerStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyTaskManager> readTaskManager(Path filePath) throws DataConversionException,
-            FileNotFoundException {
+            IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -51,9 +50,8 @@ public class XmlTaskManagerStorage implements TaskManagerStorage {
             return Optional.empty();
         }
 
-        XmlSerializableTaskManager xmlTaskManager = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlTaskManager.toModelType());
+            return Optional.of(XmlStreamFileStorage.loadDataFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +71,8 @@ public class XmlTaskManagerStorage implements TaskManagerStorage {
         requireNonNull(taskManager);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableTaskManager(taskManager));
+        FileUtil.createParentDirsOfFile(filePath);
+        XmlStreamFileStorage.saveDataToFile(filePath, taskManager);
     }
 
 }
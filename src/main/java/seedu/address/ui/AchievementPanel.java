@@ -79,13 +79,13 @@ public class AchievementPanel extends UiPart<Region> {
     private String getLastDayBreakPoint(Calendar nextDayBreakPoint) {
         Calendar copy = (GregorianCalendar) nextDayBreakPoint.clone();
         copy.add(Calendar.DAY_OF_MONTH, -1);
-        return DateFormatUtil.FORMAT_MINIMAL.format(copy.getTime());
+        return DateFormatUtil.formatDate(copy.getTime(), DateFormatUtil.FORMAT_MINIMAL);
     }
 
     private String getLastWeekBreakPoint(Calendar nextWeekBreakPoint) {
         Calendar copy = (GregorianCalendar) nextWeekBreakPoint.clone();
         copy.add(Calendar.DAY_OF_MONTH, -7);
-        return DateFormatUtil.FORMAT_MINIMAL.format(copy.getTime());
+        return DateFormatUtil.formatDate(copy.getTime(), DateFormatUtil.FORMAT_MINIMAL);
     }
 
     @Subscribe
@@ -15,6 +15,7 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.TaskManagerChangedEvent;
+import seedu.address.commons.events.storage.SaveStatusChangedEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +24,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SAVE_STATUS_PENDING = "Pending writes: %d";
+    public static final String SAVE_STATUS_UPDATED = "Pending writes: %d, last write took %d ms";
 
     /**
      * Used to generate time stamps.
@@ -42,11 +45,14 @@ public class StatusBarFooter extends UiPart<Region> {
     private StatusBar syncStatus;
     @FXML
     private StatusBar saveLocationStatus;
+    @FXML
+    private StatusBar saveStatus;
 
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
+        setSaveStatus(String.format(SAVE_STATUS_PENDING, 0));
         setSaveLocation(Paths.get(".").resolve(saveLocation).toString());
         registerAsAnEventHandler(this);
     }
@@ -73,6 +79,10 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    private void setSaveStatus(String status) {
+        Platform.runLater(() -> saveStatus.setText(status));
+    }
+
     @Subscribe
     public void handleTaskManagerChangedEvent(TaskManagerChangedEvent abce) {
         long now = clock.millis();
@@ -80,4 +90,14 @@ public class StatusBarFooter extends UiPart<Region> {
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleSaveStatusChangedEvent(SaveStatusChangedEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        if (event.lastWriteLatencyMillis == SaveStatusChangedEvent.NO_WRITE_YET) {
+            setSaveStatus(String.format(SAVE_STATUS_PENDING, event.pendingWrites));
+        } else {
+            setSaveStatus(String.format(SAVE_STATUS_UPDATED, event.pendingWrites, event.lastWriteLatencyMillis));
+        }
+    }
 }
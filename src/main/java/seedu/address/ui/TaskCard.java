@@ -5,6 +5,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.task.DueDate;
 import seedu.address.model.task.Task;
 
 
@@ -34,18 +35,25 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private Label dueDate;
     @FXML
+    private Label effectiveDueDate;
+    @FXML
     private Label status;
     @FXML
     private Label dependencyCount;
     @FXML
     private FlowPane tags;
 
-    public TaskCard(Task task, int displayedIndex) {
+    /**
+     * Creates a card showing {@code task}, with the given {@code effectiveDate}. The effective due date is left
+     * blank for a completed task.
+     */
+    public TaskCard(Task task, int displayedIndex, DueDate effectiveDate) {
         super(FXML);
         this.task = task;
         id.setText(displayedIndex + ". ");
         name.setText(task.getName().fullName);
         dueDate.setText(task.getDueDate().value);
+        effectiveDueDate.setText(task.isStatusCompleted() ? "" : effectiveDate.value);
         status.setText(task.getStatus().toString());
         dependencyCount.setText(task.getDependencies().getDependencyCount().toString());
         task.getLabels().forEach(tag -> tags.getChildren().add(new Label(truncateLabelName(tag.labelName))));
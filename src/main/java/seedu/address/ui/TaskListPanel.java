@@ -11,8 +11,10 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.TaskManagerChangedEvent;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.commons.events.ui.TaskPanelSelectionChangedEvent;
+import seedu.address.model.ReadOnlyTaskManager;
 import seedu.address.model.task.Task;
 
 /**
@@ -23,11 +25,14 @@ public class TaskListPanel extends UiPart<Region> {
 
     private final Logger logger = LogsCenter.getLogger(TaskListPanel.class);
 
+    private final ReadOnlyTaskManager taskManager;
+
     @FXML
     private ListView<Task> personListView;
 
-    public TaskListPanel(ObservableList<Task> taskList) {
+    public TaskListPanel(ObservableList<Task> taskList, ReadOnlyTaskManager taskManager) {
         super(FXML);
+        this.taskManager = taskManager;
         setConnections(taskList);
         registerAsAnEventHandler(this);
     }
@@ -64,6 +69,13 @@ public class TaskListPanel extends UiPart<Region> {
         scrollTo(event.targetIndex);
     }
 
+    @Subscribe
+    private void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        // The effective due dates of tasks that are not themselves changed may change
+        personListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
      */
@@ -76,7 +88,8 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                setGraphic(new TaskCard(task, getIndex() + 1, taskManager.getEarliestDependentTimeForNode(task))
+                        .getRoot());
             }
         }
     }
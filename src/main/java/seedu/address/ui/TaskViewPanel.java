@@ -90,9 +90,9 @@ public class TaskViewPanel extends UiPart<Region> {
         ObservableList<Task> tasks = logic.getFilteredTaskList();
         List<String> names = task
                 .getDependencies()
-                .getHashes()
+                .getIds()
                 .stream()
-                .map(hash -> tasks.stream().filter(t -> String.valueOf(t.hashCode()).equals(hash)).findFirst().get())
+                .map(id -> tasks.stream().filter(t -> t.getId() == id).findFirst().get())
                 .map(t -> t.getName().toString())
                 .map(str -> str.length() > 20 ? str.substring(0, 12) + "..." : str)
                 .collect(Collectors.toList());
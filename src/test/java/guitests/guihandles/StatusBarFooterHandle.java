@@ -12,9 +12,11 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
 
     private static final String SYNC_STATUS_ID = "#syncStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
+    private static final String SAVE_STATUS_ID = "#saveStatus";
 
     private final StatusBar syncStatusNode;
     private final StatusBar saveLocationNode;
+    private final StatusBar saveStatusNode;
 
     private String lastRememberedSyncStatus;
     private String lastRememberedSaveLocation;
@@ -24,6 +26,7 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
 
         syncStatusNode = getChildNode(SYNC_STATUS_ID);
         saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
+        saveStatusNode = getChildNode(SAVE_STATUS_ID);
     }
 
     /**
@@ -40,6 +43,13 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return saveLocationNode.getText();
     }
 
+    /**
+     * Returns the text of the save status portion of the status bar.
+     */
+    public String getSaveStatus() {
+        return saveStatusNode.getText();
+    }
+
     /**
      * Remembers the content of the sync status portion of the status bar.
      */
@@ -17,12 +17,14 @@ public class TaskCardHandle extends NodeHandle<Node> {
     private static final String ID_FIELD_ID = "#id";
     private static final String NAME_FIELD_ID = "#name";
     private static final String PHONE_FIELD_ID = "#dueDate";
+    private static final String EFFECTIVE_DUE_DATE_FIELD_ID = "#effectiveDueDate";
     private static final String DEPENDENCY_COUNT_ID = "#dependencyCount";
     private static final String TAGS_FIELD_ID = "#tags";
 
     private final Label idLabel;
     private final Label nameLabel;
     private final Label phoneLabel;
+    private final Label effectiveDueDateLabel;
     private final Label dependencyCountLabel;
     private final List<Label> tagLabels;
 
@@ -32,6 +34,7 @@ public class TaskCardHandle extends NodeHandle<Node> {
         idLabel = getChildNode(ID_FIELD_ID);
         nameLabel = getChildNode(NAME_FIELD_ID);
         phoneLabel = getChildNode(PHONE_FIELD_ID);
+        effectiveDueDateLabel = getChildNode(EFFECTIVE_DUE_DATE_FIELD_ID);
         dependencyCountLabel = getChildNode(DEPENDENCY_COUNT_ID);
 
         Region tagsContainer = getChildNode(TAGS_FIELD_ID);
@@ -54,6 +57,10 @@ public class TaskCardHandle extends NodeHandle<Node> {
         return phoneLabel.getText();
     }
 
+    public String getEffectiveDueDate() {
+        return effectiveDueDateLabel.getText();
+    }
+
     public String getDependencyCount() {
         return dependencyCountLabel.getText();
     }
@@ -0,0 +1,91 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskManager;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskManagerLoaderTest {
+
+    // Enough tasks for them to be added in several pages, the last of which is not full
+    private static final int TASK_COUNT = 2 * TaskManagerLoader.PAGE_SIZE + 1;
+
+    @Test
+    public void load_severalPages_allTasksAddedInPages() {
+        TaskManager taskManager = new TaskManager();
+        Task previous = new TaskBuilder().withName("Task 0").build();
+        taskManager.addTask(previous);
+        for (int i = 1; i < TASK_COUNT; i++) {
+            // Each task is dependent on the one before, so dependencies cross pages
+            previous = new TaskBuilder().withName("Task " + i).withDependency(previous).build();
+            taskManager.addTask(previous);
+        }
+        taskManager.addXp(100);
+
+        Model model = new ModelManager();
+        List<Integer> sizesBeforePages = new ArrayList<>();
+        List<Boolean> isLoaded = new ArrayList<>();
+        TaskManagerLoader loader = new TaskManagerLoader(() -> taskManager, model, Runnable::run, runnable -> {
+            sizesBeforePages.add(model.getFilteredTaskList().size());
+            runnable.run();
+        });
+        loader.load(() -> isLoaded.add(true));
+
+        assertEquals(Arrays.asList(0, TaskManagerLoader.PAGE_SIZE, 2 * TaskManagerLoader.PAGE_SIZE), sizesBeforePages);
+        assertEquals(Arrays.asList(true), isLoaded);
+        assertEquals(taskManager, model.getTaskManager());
+        assertEquals(taskManager.getEarliestDependentTimeForNode(taskManager.getTaskList().get(0)),
+                model.getTaskManager().getEarliestDependentTimeForNode(model.getFilteredTaskList().get(0)));
+        assertFalse(model.canUndoTaskManager());
+    }
+
+    @Test
+    public void load_dataSourceThrowsException_emptyTaskManagerLoaded() {
+        Model model = new ModelManager();
+        List<Boolean> isLoaded = new ArrayList<>();
+        TaskManagerLoader loader = new TaskManagerLoader(() -> {
+            throw new IllegalStateException("Data cannot be read");
+        }, model, Runnable::run, Runnable::run);
+        loader.load(() -> isLoaded.add(true));
+
+        assertEquals(Arrays.asList(true), isLoaded);
+        assertEquals(new TaskManager(), model.getTaskManager());
+    }
+
+    @Test
+    public void load_addingTasksThrowsException_emptyTaskManagerLoaded() {
+        TaskManager taskManager = new TaskManager();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            taskManager.addTask(new TaskBuilder().withName("Task " + i).build());
+        }
+
+        Model model = new ModelManager() {
+            private int pagesAdded = 0;
+
+            @Override
+            public void addLoadedTasks(List<Task> tasks) {
+                // Fails part way through the loading, after a page has been added
+                if (++pagesAdded > 1) {
+                    throw new IllegalStateException("Tasks cannot be added");
+                }
+                super.addLoadedTasks(tasks);
+            }
+        };
+        List<Boolean> isLoaded = new ArrayList<>();
+        TaskManagerLoader loader = new TaskManagerLoader(() -> taskManager, model, Runnable::run, Runnable::run);
+        loader.load(() -> isLoaded.add(true));
+
+        assertEquals(Arrays.asList(true), isLoaded);
+        assertEquals(new TaskManager(), model.getTaskManager());
+    }
+}
@@ -72,6 +72,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the task manager data stored inside the storage file.
      */
     public TaskManager readStorageTaskManager() {
+        storage.flush();
         try {
             return new TaskManager(storage.readTaskManager().get());
         } catch (DataConversionException dce) {
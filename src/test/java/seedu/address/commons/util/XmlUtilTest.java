@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
@@ -9,6 +11,7 @@ import java.util.Collections;
 import java.util.List;
 
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.junit.Rule;
@@ -140,6 +143,24 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void borrowMarshaller_afterReturn_sameMarshallerReused() throws Exception {
+        Marshaller marshaller = XmlUtil.borrowMarshaller(XmlAdaptedTaskWithRootElement.class);
+        XmlUtil.returnMarshaller(XmlAdaptedTaskWithRootElement.class, marshaller);
+        assertSame(marshaller, XmlUtil.borrowMarshaller(XmlAdaptedTaskWithRootElement.class));
+        XmlUtil.returnMarshaller(XmlAdaptedTaskWithRootElement.class, marshaller);
+    }
+
+    @Test
+    public void borrowFragmentMarshaller_afterMarshallerReturned_fragmentMarshallerLent() throws Exception {
+        Marshaller marshaller = XmlUtil.borrowMarshaller(XmlAdaptedTaskWithRootElement.class);
+        XmlUtil.returnMarshaller(XmlAdaptedTaskWithRootElement.class, marshaller);
+        Marshaller fragmentMarshaller = XmlUtil.borrowFragmentMarshaller(XmlAdaptedTaskWithRootElement.class);
+        assertNotSame(marshaller, fragmentMarshaller);
+        assertEquals(true, fragmentMarshaller.getProperty(Marshaller.JAXB_FRAGMENT));
+        XmlUtil.returnFragmentMarshaller(XmlAdaptedTaskWithRootElement.class, fragmentMarshaller);
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedTask}
      * objects.
@@ -1,13 +1,17 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.function.Predicate;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -16,12 +20,17 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 
 public class LogicManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private Model model = new ModelManager();
     private Logic logic = new LogicManager(model);
 
@@ -46,6 +55,55 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_queueingCommands_commandQueuedUntilQueuedCommandsExecuted() {
+        logic.queueCommands();
+        String deleteCommand = "delete 9";
+        assertCommandSuccess(deleteCommand, LogicManager.MESSAGE_COMMAND_QUEUED, model);
+        String invalidCommand = "uicfhmowqewca";
+        assertParseException(invalidCommand, MESSAGE_UNKNOWN_COMMAND);
+        String listCommand = ListCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, LogicManager.MESSAGE_COMMAND_QUEUED, model);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        logic.executeQueuedCommands();
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        NewResultAvailableEvent lastResult = (NewResultAvailableEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, lastResult.message);
+        assertHistoryCorrect(listCommand, invalidCommand, deleteCommand);
+
+        // commands are executed at once again
+        assertCommandException(deleteCommand, MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void executeQueuedCommands_queuedCommandThrows_failureReportedAndLaterCommandsExecuted() throws Exception {
+        model = new ModelManager() {
+            @Override
+            public void updateFilteredTaskList(Predicate<Task> predicate) {
+                throw new IllegalStateException("dummy exception");
+            }
+        };
+        logic = new LogicManager(model);
+        logic.queueCommands();
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(HistoryCommand.COMMAND_WORD);
+
+        logic.executeQueuedCommands();
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        NewResultAvailableEvent lastResult = (NewResultAvailableEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS,
+                String.join("\n", HistoryCommand.COMMAND_WORD, ListCommand.COMMAND_WORD)), lastResult.message);
+
+        logic.queueCommands();
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.executeQueuedCommands();
+        lastResult = (NewResultAvailableEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(String.format(LogicManager.MESSAGE_QUEUED_COMMAND_FAILED, "dummy exception"), lastResult.message);
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
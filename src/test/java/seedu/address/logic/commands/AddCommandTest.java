@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -19,6 +20,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskManager;
+import seedu.address.model.TaskListView;
 import seedu.address.model.TaskManager;
 import seedu.address.model.achievement.AchievementRecord;
 import seedu.address.model.achievement.Level;
@@ -118,6 +120,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLoadedTasks(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void finishLoading(ReadOnlyTaskManager loadedData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Level getLevel() {
             throw new AssertionError("This method should not be called.");
@@ -188,6 +200,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateSortedTaskList(Comparator<Task> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Comparator<Task> getEffectiveDueDateComparator() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TaskListView saveTaskListView() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restoreTaskListView(TaskListView view) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoTaskManager() {
             throw new AssertionError("This method should not be called.");
@@ -218,6 +250,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T, E extends Exception> T runInBatch(BatchedChanges<T, E> changes) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void checkOverdue() {
             throw new AssertionError("This method should not be called.");
@@ -233,6 +280,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isCyclicDependency(Task dependant, Task dependee) {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -10,7 +10,6 @@ import static seedu.address.testutil.TypicalTasks.getTypicalDependentTaskManager
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskManager;
 
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.junit.Test;
 
@@ -161,7 +160,8 @@ public class CompleteLabelCommandTest {
      * @param model a reference model to be used for both the expected and actual model
      * @param keywords {@code Strings} representing labels for the expected model
      */
-    private void assertCompleteLabelCommandSuccess(Predicate<Task> predicate, Model model, String... keywords) {
+    private void assertCompleteLabelCommandSuccess(LabelMatchesAnyKeywordPredicate predicate, Model model,
+        String... keywords) {
         // Creating expected data
         Model expectedModel = new ModelManager(model.getTaskManager(), new UserPrefs());
 
@@ -5,13 +5,17 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.A_TASK;
+import static seedu.address.testutil.TypicalTasks.B_TASK;
 import static seedu.address.testutil.TypicalTasks.C_TASK;
+import static seedu.address.testutil.TypicalTasks.D_TASK;
 import static seedu.address.testutil.TypicalTasks.E_TASK;
 import static seedu.address.testutil.TypicalTasks.F_TASK;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskManager;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -19,7 +23,9 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskMatchesAnyKeywordPredicate;
+import seedu.address.testutil.TaskBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -31,19 +37,17 @@ public class FindCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
+        List<String> firstKeywords = Collections.singletonList("first");
+        List<String> secondKeywords = Collections.singletonList("second");
 
-        FindCommand findFirstCommand = new FindCommand(firstPredicate);
-        FindCommand findSecondCommand = new FindCommand(secondPredicate);
+        FindCommand findFirstCommand = new FindCommand(firstKeywords);
+        FindCommand findSecondCommand = new FindCommand(secondKeywords);
 
         // same object -> returns true
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // same values -> returns true
-        FindCommand findFirstCommandCopy = new FindCommand(firstPredicate);
+        FindCommand findFirstCommandCopy = new FindCommand(firstKeywords);
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // different types -> returns false
@@ -59,9 +63,9 @@ public class FindCommandTest {
     @Test
     public void execute_zeroKeywords_noPersonFound() {
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 0);
-        NameContainsKeywordsPredicate predicate = preparePredicate(" ");
-        FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredTaskList(predicate);
+        List<String> keywords = prepareKeywords(" ");
+        FindCommand command = new FindCommand(keywords);
+        expectedModel.updateFilteredTaskList(new TaskMatchesAnyKeywordPredicate(expectedModel, keywords));
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredTaskList());
     }
@@ -69,17 +73,60 @@ public class FindCommandTest {
     @Test
     public void execute_multipleKeywords_multiplePersonsFound() {
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3);
-        NameContainsKeywordsPredicate predicate = preparePredicate("medical research experiment");
-        FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredTaskList(predicate);
+        List<String> keywords = prepareKeywords("medical research experiment");
+        FindCommand command = new FindCommand(keywords);
+        expectedModel.updateFilteredTaskList(new TaskMatchesAnyKeywordPredicate(expectedModel, keywords));
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(C_TASK, E_TASK, F_TASK), model.getFilteredTaskList());
     }
 
+    @Test
+    public void execute_labelKeyword_tasksWithLabelFound() {
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3);
+        List<String> keywords = prepareKeywords("FRIENDS");
+        expectedModel.updateFilteredTaskList(new TaskMatchesAnyKeywordPredicate(expectedModel, keywords));
+        assertCommandSuccess(new FindCommand(keywords), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(A_TASK, B_TASK, D_TASK), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_descriptionKeyword_taskFound() {
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 1);
+        List<String> keywords = prepareKeywords("damith");
+        expectedModel.updateFilteredTaskList(new TaskMatchesAnyKeywordPredicate(expectedModel, keywords));
+        assertCommandSuccess(new FindCommand(keywords), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(A_TASK), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_tasksEditedAfterFind_filteredListUpdated() throws Exception {
+        List<String> keywords = prepareKeywords("friends");
+        new FindCommand(keywords).execute(model, commandHistory);
+        assertEquals(Arrays.asList(A_TASK, B_TASK, D_TASK), model.getFilteredTaskList());
+
+        // task edited to gain the keyword -> shown
+        Task taskToLabel = model.getTaskManager().getTaskList().get(2);
+        Task labelledTask = new TaskBuilder(taskToLabel).withLabels("friends").build();
+        model.updateTask(taskToLabel, labelledTask);
+        model.commitTaskManager();
+        assertEquals(Arrays.asList(A_TASK, B_TASK, labelledTask, D_TASK), model.getFilteredTaskList());
+
+        // task edited to lose the keyword -> hidden
+        Task taskToUnlabel = model.getTaskManager().getTaskList().get(0);
+        model.updateTask(taskToUnlabel, new TaskBuilder(taskToUnlabel).withLabels().build());
+        model.commitTaskManager();
+        assertEquals(Arrays.asList(B_TASK, labelledTask, D_TASK), model.getFilteredTaskList());
+
+        // edits undone -> original tasks shown
+        model.undoTaskManager();
+        model.undoTaskManager();
+        assertEquals(Arrays.asList(A_TASK, B_TASK, D_TASK), model.getFilteredTaskList());
+    }
+
     /**
-     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     * Parses {@code userInput} into a list of keywords.
      */
-    private NameContainsKeywordsPredicate preparePredicate(String userInput) {
-        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    private List<String> prepareKeywords(String userInput) {
+        return Arrays.asList(userInput.split("\\s+"));
     }
 }
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.A_TASK;
+import static seedu.address.testutil.TypicalTasks.B_TASK;
+import static seedu.address.testutil.TypicalTasks.C_TASK;
+import static seedu.address.testutil.TypicalTasks.D_TASK;
+import static seedu.address.testutil.TypicalTasks.E_TASK;
+import static seedu.address.testutil.TypicalTasks.F_TASK;
+import static seedu.address.testutil.TypicalTasks.G_TASK;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskManager;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalTaskManager(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noSortOrder_showsOriginalOrder() {
+        Model expectedModel = new ModelManager(model.getTaskManager(), new UserPrefs());
+        model.updateSortedTaskList((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        assertCommandSuccess(new SortCommand(), model, commandHistory, SortCommand.MESSAGE_UNSORTED, expectedModel);
+    }
+
+    @Test
+    public void execute_sortByPriority_highestPriorityFirst() throws Exception {
+        new SortCommand(SortCommand.SortOrder.PRIORITY).execute(model, commandHistory);
+        assertEquals(Arrays.asList(G_TASK, F_TASK, E_TASK, D_TASK, C_TASK, B_TASK, A_TASK),
+                model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_sortByPriority_addedTaskPutInPlace() throws Exception {
+        new SortCommand(SortCommand.SortOrder.PRIORITY).execute(model, commandHistory);
+        model.deleteTask(D_TASK);
+        model.addTask(D_TASK);
+        assertEquals(D_TASK, model.getFilteredTaskList().get(3));
+    }
+
+    @Test
+    public void execute_sortByEarliestDependentDueDate_dependeesOfEarlyTasksFirst() throws Exception {
+        Task dependentA = DependencyCommand.createDependantTask(A_TASK, G_TASK);
+        model.updateTask(A_TASK, dependentA);
+        new SortCommand(SortCommand.SortOrder.EARLIEST_DEPENDENT_DUE_DATE).execute(model, commandHistory);
+        assertEquals(Arrays.asList(dependentA, G_TASK, B_TASK, C_TASK, D_TASK, E_TASK, F_TASK),
+                model.getFilteredTaskList());
+
+        // G_TASK is moved back once A_TASK no longer depends on it, though G_TASK itself is unchanged
+        model.updateTask(dependentA, A_TASK);
+        assertEquals(Arrays.asList(A_TASK, B_TASK, C_TASK, D_TASK, E_TASK, F_TASK, G_TASK),
+                model.getFilteredTaskList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByPriority = new SortCommand(SortCommand.SortOrder.PRIORITY);
+
+        assertEquals(sortByPriority, sortByPriority);
+        assertEquals(new SortCommand(SortCommand.SortOrder.PRIORITY), sortByPriority);
+        assertEquals(new SortCommand(), new SortCommand());
+        assertNotEquals(new SortCommand(), sortByPriority);
+        assertNotEquals(new SortCommand(SortCommand.SortOrder.DUE_DATE), sortByPriority);
+        assertNotEquals(null, sortByPriority);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SortCommand;
+
+/**
+ * Tests that the permitted orders for SortCommand work.
+ */
+public class SortCommandParserTest {
+
+    private String orderPrefix = " " + SortCommandParser.PREFIX_ORDER;
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, "", new SortCommand());
+
+        assertParseSuccess(parser, orderPrefix + SortCommandParser.DUE_DATE_OPTION,
+                new SortCommand(SortCommand.SortOrder.DUE_DATE));
+        assertParseSuccess(parser, orderPrefix + SortCommandParser.PRIORITY_OPTION,
+                new SortCommand(SortCommand.SortOrder.PRIORITY));
+        assertParseSuccess(parser, orderPrefix + SortCommandParser.EARLIEST_DEPENDENT_DUE_DATE_OPTION,
+                new SortCommand(SortCommand.SortOrder.EARLIEST_DEPENDENT_DUE_DATE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, orderPrefix + "alphabetical", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
+    }
+}
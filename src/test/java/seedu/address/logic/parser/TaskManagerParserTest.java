@@ -30,11 +30,11 @@ import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Label;
 import seedu.address.model.task.LabelMatchesAnyKeywordPredicate;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.EditTaskDescriptorBuilder;
 import seedu.address.testutil.TaskBuilder;
@@ -101,7 +101,7 @@ public class TaskManagerParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindCommand command = (FindCommand) parser.parseCommand(
                 FindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindCommand(keywords), command);
     }
 
     @Test
@@ -129,6 +129,13 @@ public class TaskManagerParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(), parser.parseCommand(SortCommand.COMMAND_WORD));
+        assertEquals(new SortCommand(SortCommand.SortOrder.PRIORITY), parser.parseCommand(
+                SortCommand.COMMAND_WORD + " " + SortCommandParser.PREFIX_ORDER + SortCommandParser.PRIORITY_OPTION));
+    }
+
     @Test
     public void parseCommand_select() throws Exception {
         SelectCommand command = (SelectCommand) parser.parseCommand(
@@ -1,25 +1,38 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 import static seedu.address.testutil.TypicalTasks.A_TASK;
 import static seedu.address.testutil.TypicalTasks.B_TASK;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AchievementsUpdatedEvent;
+import seedu.address.commons.events.model.TaskManagerChangedEvent;
 import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TaskManagerBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -45,6 +58,120 @@ public class ModelManagerTest {
         modelManager.getFilteredTaskList().remove(0);
     }
 
+    @Test
+    public void commitBatch_severalTasksCompleted_oneEventOfEachKindAndOneUndoState() {
+        TaskManager taskManager = new TaskManagerBuilder().withTask(A_TASK).withTask(B_TASK).build();
+        modelManager = new ModelManager(taskManager, new UserPrefs());
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.beginBatch();
+        for (Task task : taskManager.getTaskList()) {
+            modelManager.updateTaskStatus(task, new TaskBuilder(task).withStatus(Status.COMPLETED).build());
+        }
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        modelManager.commitBatch();
+
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(TaskManagerChangedEvent.class));
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(AchievementsUpdatedEvent.class));
+
+        modelManager.undoTaskManager();
+        assertEquals(taskManager, modelManager.getTaskManager());
+        assertFalse(modelManager.canUndoTaskManager());
+    }
+
+    @Test
+    public void constructor_undoHistoryDepthNotPositive_defaultDepthUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        modelManager = new ModelManager(new TaskManager(), userPrefs);
+
+        modelManager.addTask(A_TASK);
+        modelManager.commitTaskManager();
+        assertTrue(modelManager.canUndoTaskManager());
+    }
+
+    @Test
+    public void rollbackTaskManager_batchInProgress_batchEnded() {
+        modelManager.beginBatch();
+        modelManager.addTask(A_TASK);
+        modelManager.rollbackTaskManager();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.addTask(B_TASK);
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(TaskManagerChangedEvent.class));
+        assertFalse(modelManager.hasTask(A_TASK));
+    }
+
+    @Test
+    public void runInBatch_changesThrow_batchEndedAndRolledBack() {
+        try {
+            modelManager.runInBatch(() -> {
+                modelManager.addTask(A_TASK);
+                throw new IllegalStateException("dummy exception");
+            });
+            fail("The exception from the changes should be thrown");
+        } catch (IllegalStateException ise) {
+            assertFalse(modelManager.hasTask(A_TASK));
+        }
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.addTask(B_TASK);
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(TaskManagerChangedEvent.class));
+    }
+
+    @Test
+    public void runInBatch_nestedChangesThrow_outermostBatchRolledBack() {
+        try {
+            modelManager.runInBatch(() -> {
+                modelManager.addTask(A_TASK);
+                return modelManager.runInBatch(() -> {
+                    throw new IllegalStateException("dummy exception");
+                });
+            });
+            fail("The exception from the changes should be thrown");
+        } catch (IllegalStateException ise) {
+            assertFalse(modelManager.hasTask(A_TASK));
+        }
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.addTask(B_TASK);
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(TaskManagerChangedEvent.class));
+    }
+
+    @Test
+    public void restoreTaskListView_filterAndOrderChanged_savedFilterAndOrderRestored() {
+        TaskManager taskManager = new TaskManagerBuilder().withTask(A_TASK).withTask(B_TASK).build();
+        modelManager = new ModelManager(taskManager, new UserPrefs());
+        modelManager.updateSortedTaskList(Comparator.comparing((Task task) -> task.getName().fullName).reversed());
+        TaskListView sortedView = modelManager.saveTaskListView();
+        modelManager.updateFilteredTaskList(task -> task.equals(A_TASK));
+        TaskListView filteredView = modelManager.saveTaskListView();
+
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        modelManager.updateSortedTaskList(null);
+        modelManager.restoreTaskListView(filteredView);
+        assertEquals(Collections.singletonList(A_TASK), modelManager.getFilteredTaskList());
+
+        modelManager.restoreTaskListView(sortedView);
+        assertEquals(Arrays.asList(B_TASK, A_TASK), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void finishLoading_tasksAddedInPages_loadedDataNotUndoable() {
+        TaskManager taskManager = new TaskManagerBuilder().withTask(A_TASK).withTask(B_TASK).build();
+        taskManager.addXp(100);
+        modelManager.addLoadedTasks(Collections.singletonList(A_TASK));
+        modelManager.addLoadedTasks(Collections.singletonList(B_TASK));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.finishLoading(taskManager);
+        assertEquals(taskManager, modelManager.getTaskManager());
+        assertFalse(modelManager.canUndoTaskManager());
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(TaskManagerChangedEvent.class));
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(AchievementsUpdatedEvent.class));
+    }
+
     @Test
     public void equals() {
         TaskManager taskManager = new TaskManagerBuilder().withTask(A_TASK).withTask(B_TASK).build();
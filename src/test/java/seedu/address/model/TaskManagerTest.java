@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -21,7 +22,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.achievement.AchievementRecord;
 import seedu.address.model.game.GameManager;
+import seedu.address.model.tag.Label;
 import seedu.address.model.task.DueDate;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.testutil.TaskBuilder;
@@ -90,6 +93,59 @@ public class TaskManagerTest {
         assertTrue(taskManager.hasTask(editedAlice));
     }
 
+    @Test
+    public void updateIfOverdue_pastAndFutureDueDates_onlyPastMarkedOverdue() {
+        Task pastTask = new TaskBuilder().withName("Past").withDueDate("01-01-2000").build();
+        Task futureTask = new TaskBuilder().withName("Future").withDueDate("01-01-2999").build();
+        taskManager.addTask(futureTask);
+        taskManager.addTask(pastTask);
+
+        assertTrue(taskManager.updateIfOverdue());
+        assertEquals(Status.OVERDUE, taskManager.getTaskList().get(1).getStatus());
+        assertEquals(futureTask, taskManager.getTaskList().get(0));
+
+        // nothing else has become overdue
+        assertFalse(taskManager.updateIfOverdue());
+    }
+
+    @Test
+    public void updateIfOverdue_taskChangedAfterAdding_currentTaskChecked() {
+        Task pastTask = new TaskBuilder().withName("Past").withDueDate("01-01-2000").build();
+        Task completedTask = new TaskBuilder().withName("Completed").withDueDate("01-01-2000").build();
+        taskManager.addTask(pastTask);
+        taskManager.addTask(completedTask);
+
+        Task rescheduledTask = new TaskBuilder(pastTask).withDueDate("01-01-2999").build();
+        taskManager.updateTask(pastTask, rescheduledTask);
+        taskManager.updateTask(completedTask, new TaskBuilder(completedTask).withStatus(Status.COMPLETED).build());
+
+        assertFalse(taskManager.updateIfOverdue());
+        assertEquals(Status.IN_PROGRESS, taskManager.getTaskList().get(0).getStatus());
+        assertEquals(Status.COMPLETED, taskManager.getTaskList().get(1).getStatus());
+    }
+
+    @Test
+    public void addTask_taskWithoutId_givenNextIdNotReused() {
+        taskManager.addTask(new TaskBuilder().withId(5).withName("With id").build());
+        Task withoutId = new TaskBuilder().withId(Task.NO_ID).withName("Without id").build();
+        taskManager.addTask(withoutId);
+        assertEquals(6, taskManager.getTaskList().get(1).getId());
+
+        taskManager.removeTask(withoutId);
+        taskManager.addTask(withoutId);
+        assertEquals(7, taskManager.getTaskList().get(1).getId());
+    }
+
+    @Test
+    public void setTasks_tasksWithoutIds_givenIdsAfterLargestId() {
+        taskManager.setTasks(Arrays.asList(new TaskBuilder().withId(Task.NO_ID).withName("First").build(),
+                new TaskBuilder().withId(3).withName("Second").build(),
+                new TaskBuilder().withId(Task.NO_ID).withName("Third").build()));
+        assertEquals(4, taskManager.getTaskList().get(0).getId());
+        assertEquals(3, taskManager.getTaskList().get(1).getId());
+        assertEquals(5, taskManager.getTaskList().get(2).getId());
+    }
+
     @Test
     public void getTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -121,6 +177,26 @@ public class TaskManagerTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasUncompletedDependee(Task task) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Long> getIdsOfTasksWithAnyKeyword(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasAnyKeyword(Task task, List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getTasksWithAnyLabel(Set<Label> labels) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Task> getTopologicalOrder() {
             throw new AssertionError("This method should not be called.");
@@ -14,6 +14,8 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TaskManagerBuilder;
 
 public class VersionedTaskManagerTest {
@@ -173,6 +175,41 @@ public class VersionedTaskManagerTest {
             Collections.singletonList(taskManagerWithBob));
     }
 
+    @Test
+    public void undo_removedTaskWithDependant_dependencyRestored() {
+        Task dependantTask = new TaskBuilder().withDependency(C_TASK).build();
+        VersionedTaskManager versionedTaskManager = new VersionedTaskManager(
+            new TaskManagerBuilder().withTask(C_TASK).withTask(dependantTask).build());
+
+        versionedTaskManager.removeTask(C_TASK);
+        versionedTaskManager.commit();
+        assertFalse(versionedTaskManager.getTaskList().get(0).isDependentOn(C_TASK));
+
+        versionedTaskManager.undo();
+        assertEquals(Arrays.asList(C_TASK, dependantTask), versionedTaskManager.getTaskList());
+        assertTrue(versionedTaskManager.getTaskList().get(1).isDependentOn(C_TASK));
+        assertEquals(Arrays.asList(C_TASK, dependantTask), versionedTaskManager.getTopologicalOrder());
+
+        versionedTaskManager.redo();
+        assertEquals(Collections.singletonList(dependantTask), versionedTaskManager.getTaskList());
+        assertFalse(versionedTaskManager.getTaskList().get(0).isDependentOn(C_TASK));
+    }
+
+    @Test
+    public void commit_historyFull_oldestStateEvicted() {
+        VersionedTaskManager versionedTaskManager = new VersionedTaskManager(emptyTaskManager, 2);
+        for (ReadOnlyTaskManager taskManager : Arrays.asList(taskManagerWithAmy, taskManagerWithBob,
+            taskManagerWithCarl)) {
+            versionedTaskManager.resetData(taskManager);
+            versionedTaskManager.commit();
+        }
+
+        assertTaskManagerListStatus(versionedTaskManager,
+            Arrays.asList(taskManagerWithAmy, taskManagerWithBob),
+            taskManagerWithCarl,
+            Collections.emptyList());
+    }
+
     @Test
     public void undo_multipleTaskManagerPointerNotAtStartOfStateList_success() {
         VersionedTaskManager versionedTaskManager = prepareTaskManagerList(
@@ -17,26 +17,24 @@ import seedu.address.testutil.TaskBuilder;
 
 public class DependenciesTest {
     private Dependencies sampleDependencies;
-    private Set<String> sampleSet;
+    private Set<Long> sampleSet;
     private Task sampleTaskInDependency;
     private Task sampleTaskOutsideDependency;
-    private String sampleHash1;
-    private String sampleHash2;
+    private Long sampleId;
 
     @Before
     public void setUp() {
-        sampleHash1 = "12345";
-        sampleHash2 = "67890";
+        sampleId = 3L;
 
-        sampleTaskInDependency = new TaskBuilder().build();
+        sampleTaskInDependency = new TaskBuilder().withId(1).build();
 
-        HashSet<String> hashes = new HashSet<String>();
-        hashes.add(sampleHash1);
-        hashes.add(Integer.toString(sampleTaskInDependency.hashCode()));
+        HashSet<Long> ids = new HashSet<Long>();
+        ids.add(sampleId);
+        ids.add(sampleTaskInDependency.getId());
 
-        sampleTaskOutsideDependency = new TaskBuilder().withName("Outside Dependency").build();
-        sampleDependencies = new Dependencies(hashes);
-        sampleSet = hashes;
+        sampleTaskOutsideDependency = new TaskBuilder().withId(2).withName("Outside Dependency").build();
+        sampleDependencies = new Dependencies(ids);
+        sampleSet = ids;
     }
 
     @Test
@@ -55,10 +53,11 @@ public class DependenciesTest {
     }
 
     @Test
-    public void updateHash_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Dependencies().updateHash(null, sampleHash1));
-        assertThrows(NullPointerException.class, () -> new Dependencies().updateHash(sampleHash1, null));
-
+    public void isValidDependency() {
+        assertFalse(Dependencies.isValidDependency("")); // empty string
+        assertFalse(Dependencies.isValidDependency("abc")); // not a number
+        assertFalse(Dependencies.isValidDependency("1.5")); // not an integer
+        assertTrue(Dependencies.isValidDependency("12345"));
     }
 
     @Test
@@ -70,7 +69,7 @@ public class DependenciesTest {
     @Test
     public void addDependency() {
         //Creating expected dependency
-        sampleSet.add(Integer.toString(sampleTaskOutsideDependency.hashCode()));
+        sampleSet.add(sampleTaskOutsideDependency.getId());
         Dependencies expectedDependency = new Dependencies(sampleSet);
         //Checking equality
         assertEquals(expectedDependency, sampleDependencies.concatDependency(sampleTaskOutsideDependency));
@@ -79,31 +78,21 @@ public class DependenciesTest {
     @Test
     public void removeDependency() {
         //Creating expected dependency
-        sampleSet.remove(Integer.toString(sampleTaskInDependency.hashCode()));
+        sampleSet.remove(sampleTaskInDependency.getId());
         Dependencies expectedDependency = new Dependencies(sampleSet);
         //Checking equality
         assertEquals(expectedDependency, sampleDependencies.spliceDependency(sampleTaskInDependency));
     }
 
-    @Test
-    public void updateHash() {
-        String oldHash = Integer.toString(sampleTaskInDependency.hashCode());
-        String newHash = sampleHash2;
-        sampleSet.remove(oldHash);
-        sampleSet.add(newHash);
-        Dependencies expectedDependency = new Dependencies(sampleSet);
-        assertEquals(expectedDependency, sampleDependencies.updateHash(oldHash, newHash));
-    }
-
     @Test
     public void equals() {
         assertNotEquals(sampleDependencies, new Dependencies());
 
-        HashSet<String> hashes = new HashSet<String>();
-        hashes.add(sampleHash1);
-        hashes.add(Integer.toString(sampleTaskInDependency.hashCode()));
+        HashSet<Long> ids = new HashSet<Long>();
+        ids.add(sampleId);
+        ids.add(sampleTaskInDependency.getId());
 
-        Dependencies newSample = new Dependencies(hashes);
+        Dependencies newSample = new Dependencies(ids);
         assertEquals(newSample, sampleDependencies);
     }
 
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,6 +19,8 @@ import seedu.address.model.task.exceptions.GraphCycleException;
 import seedu.address.testutil.TaskBuilder;
 
 public class DependencyGraphTest {
+    private static final int CHAIN_LENGTH = 100000;
+
     private List<Task> preCyclicTasks = new ArrayList<>();
     private Task cyclicTask;
     private List<Task> cyclicTasks = new ArrayList<>();
@@ -74,9 +77,164 @@ public class DependencyGraphTest {
     @Test
     public void topologicalSort_valid_returnsList() {
         DependencyGraph graph = new DependencyGraph(preSortedTasks);
-        List<String> actualHashes = graph.topologicalSort();
-        List<String> expectedHashes = sortedTasks.stream().map((task) -> Integer.toString(task.hashCode()))
-                .collect(Collectors.toList());
-        assertEquals(expectedHashes, actualHashes);
+        List<Long> actualIds = graph.topologicalSort();
+        List<Long> expectedIds = sortedTasks.stream().map(Task::getId).collect(Collectors.toList());
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void checkCyclicDependency_newEdge_checksReachabilityFromDependee() {
+        DependencyGraph graph = new DependencyGraph(preSortedTasks);
+        Task a = preSortedTasks.get(0);
+        Task c = preSortedTasks.get(1);
+        assertTrue(graph.checkCyclicDependency(a, c));
+        assertTrue(graph.checkCyclicDependency(a, a));
+        assertFalse(graph.checkCyclicDependency(c, a));
+    }
+
+    @Test
+    public void updateTask_dependencyRemoved_edgeRemoved() {
+        DependencyGraph graph = new DependencyGraph(preSortedTasks);
+        Task a = preSortedTasks.get(0);
+        Task c = preSortedTasks.get(1);
+        Task b = preSortedTasks.get(2);
+        Task independentC = DependencyCommand.createUndependantTask(
+                DependencyCommand.createUndependantTask(c, b), a);
+        graph.updateTask(independentC);
+        assertFalse(graph.checkCyclicDependency(a, c));
+        assertFalse(graph.getDependants(a.getId()).contains(c.getId()));
+    }
+
+    @Test
+    public void removeTask_dependee_dependenciesOnTaskRemoved() {
+        DependencyGraph graph = new DependencyGraph(preSortedTasks);
+        Task a = preSortedTasks.get(0);
+        Task c = preSortedTasks.get(1);
+        Task b = preSortedTasks.get(2);
+        graph.removeTask(b);
+        assertEquals(Arrays.asList(a.getId(), c.getId()), graph.topologicalSort());
+    }
+
+    @Test
+    public void hasInvalidDependencies_completedTaskDependentOnUncompleted_returnsTrue() {
+        // completed3 is dependent on c, which is not completed
+        assertTrue(new DependencyGraph(preSortedTasks).hasInvalidDependencies());
+    }
+
+    @Test
+    public void hasInvalidDependencies_updatesKeptUpToDate() {
+        DependencyGraph graph = new DependencyGraph(preSortedTasks);
+        Task c = preSortedTasks.get(1);
+        Task completed3 = preSortedTasks.get(5);
+
+        graph.removeTask(completed3);
+        assertFalse(graph.hasInvalidDependencies());
+
+        graph.addTask(completed3);
+        assertTrue(graph.hasInvalidDependencies());
+
+        graph.updateTask(new TaskBuilder(c).withStatus(Status.COMPLETED).build());
+        assertTrue(graph.hasInvalidDependencies()); // c is dependent on a and b, which are not completed
+
+        graph.updateTask(c);
+        graph.updateTask(DependencyCommand.createUndependantTask(completed3, c));
+        assertFalse(graph.hasInvalidDependencies());
+    }
+
+    @Test
+    public void hasInvalidDependencies_dependeeAddedLater_returnsTrue() {
+        Task dependee = new TaskBuilder().withName("Dependee").build();
+        Task dependant = new TaskBuilder().withName("Dependant").withDependency(dependee)
+                .withStatus(Status.COMPLETED).build();
+        DependencyGraph graph = new DependencyGraph();
+        graph.addTask(dependant);
+        assertFalse(graph.hasInvalidDependencies());
+
+        graph.addTask(dependee);
+        assertTrue(graph.hasInvalidDependencies());
+
+        graph.setTasks(new ArrayList<>());
+        assertFalse(graph.hasInvalidDependencies());
+    }
+
+    @Test
+    public void getEffectiveDueDate_tasksAddedAndUpdated_earliestDueDateOfUncompletedDependants() {
+        Task x = new TaskBuilder().withName("X").withDueDate("05-12-19").build();
+        Task y = new TaskBuilder().withName("Y").withDueDate("03-12-19").withDependency(x).build();
+        Task z = new TaskBuilder().withName("Z").withDueDate("01-12-19").withDependency(y).build();
+        DependencyGraph graph = new DependencyGraph();
+        graph.addTask(x);
+        graph.addTask(y);
+        graph.addTask(z);
+        assertEquals(z.getDueDate(), graph.getEffectiveDueDate(x.getId()).get());
+
+        Task laterZ = new TaskBuilder(z).withDueDate("10-12-19").build();
+        graph.updateTask(laterZ);
+        assertEquals(y.getDueDate(), graph.getEffectiveDueDate(x.getId()).get());
+        assertEquals(laterZ.getDueDate(), graph.getEffectiveDueDate(z.getId()).get());
+
+        graph.updateTask(z);
+        graph.updateTask(new TaskBuilder(y).withStatus(Status.COMPLETED).build());
+        assertEquals(x.getDueDate(), graph.getEffectiveDueDate(x.getId()).get()); // completed y is left out
+        assertEquals(y.getDueDate(), graph.getEffectiveDueDate(y.getId()).get());
+
+        graph.updateTask(y);
+        graph.removeTask(z);
+        assertEquals(y.getDueDate(), graph.getEffectiveDueDate(x.getId()).get());
+        assertFalse(graph.getEffectiveDueDate(z.getId()).isPresent());
+    }
+
+    @Test
+    public void getEffectiveDueDate_longChain_earliestDueDatePropagatedToStart() {
+        List<Task> chain = createChain(CHAIN_LENGTH);
+        Task last = new TaskBuilder(chain.get(CHAIN_LENGTH - 1)).withDueDate("01-01-18").build();
+        chain.set(CHAIN_LENGTH - 1, last);
+        DependencyGraph graph = new DependencyGraph(chain);
+        assertEquals(last.getDueDate(), graph.getEffectiveDueDate(chain.get(0).getId()).get());
+
+        graph.updateTask(new TaskBuilder(last).withDueDate("01-01-30").build());
+        assertEquals(chain.get(0).getDueDate(), graph.getEffectiveDueDate(chain.get(0).getId()).get());
+    }
+
+    @Test
+    public void findCycle_cyclicTasks_returnsCyclePath() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.setTasks(cyclicTasks);
+        // The search starts from a, which has the smallest id, and follows its only dependency, on c, which in turn
+        // is dependent on a before b
+        Task a = cyclicTasks.get(0);
+        assertEquals(Arrays.asList(a.getId(), cyclicTask.getId(), a.getId()), graph.findCycle());
+    }
+
+    @Test
+    public void topologicalSort_longChain_returnsChainInOrder() {
+        List<Task> chain = createChain(CHAIN_LENGTH);
+        DependencyGraph graph = new DependencyGraph(chain);
+        List<Long> expectedIds = chain.stream().map(Task::getId).collect(Collectors.toList());
+        assertEquals(expectedIds, graph.topologicalSort());
+    }
+
+    @Test
+    public void findCycle_longCyclicChain_returnsWholeChain() {
+        List<Task> chain = createChain(CHAIN_LENGTH);
+        chain.set(0, DependencyCommand.createDependantTask(chain.get(0), chain.get(CHAIN_LENGTH - 1)));
+        DependencyGraph graph = new DependencyGraph();
+        graph.setTasks(chain);
+        assertEquals(CHAIN_LENGTH + 1, graph.findCycle().size());
+        assertThrows(GraphCycleException.class, graph::topologicalSort);
+    }
+
+    /**
+     * Returns {@code length} tasks, each dependent on the task before it.
+     */
+    private List<Task> createChain(int length) {
+        List<Task> chain = new ArrayList<>();
+        Task previous = new TaskBuilder().withName("Chain 0").build();
+        chain.add(previous);
+        for (int i = 1; i < length; i++) {
+            previous = new TaskBuilder().withName("Chain " + i).withDependency(previous).build();
+            chain.add(previous);
+        }
+        return chain;
     }
 }
@@ -0,0 +1,52 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.Test;
+
+import seedu.address.testutil.TaskBuilder;
+
+public class DueDateIsBeforeEndOfWeekPredicateTest {
+
+    // Wednesday, 4 December 2019, 1000
+    private static final Clock WEDNESDAY_CLOCK = Clock.fixed(
+            LocalDateTime.of(2019, 12, 4, 10, 0).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    @Test
+    public void test_dueDateBeforeEndOfSunday_returnsTrue() {
+        DueDateIsBeforeEndOfWeekPredicate predicate = new DueDateIsBeforeEndOfWeekPredicate(WEDNESDAY_CLOCK);
+        assertTrue(predicate.test(new TaskBuilder().withDueDate("04-12-19").build()));
+        assertTrue(predicate.test(new TaskBuilder().withDueDate("08-12-19 2359").build()));
+
+        // overdue
+        assertTrue(predicate.test(new TaskBuilder().withDueDate("01-12-19").build()));
+    }
+
+    @Test
+    public void test_dueDateAfterEndOfSunday_returnsFalse() {
+        DueDateIsBeforeEndOfWeekPredicate predicate = new DueDateIsBeforeEndOfWeekPredicate(WEDNESDAY_CLOCK);
+        assertFalse(predicate.test(new TaskBuilder().withDueDate("09-12-19").build()));
+    }
+
+    @Test
+    public void equals() {
+        DueDateIsBeforeEndOfWeekPredicate predicate = new DueDateIsBeforeEndOfWeekPredicate(WEDNESDAY_CLOCK);
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // created at a different time -> returns true
+        assertTrue(predicate.equals(new DueDateIsBeforeEndOfWeekPredicate()));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(new DueDateIsBeforeTodayPredicate(WEDNESDAY_CLOCK)));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+    }
+}
@@ -56,6 +56,15 @@ public class DueDateTest {
         assertFalse(newDate.isOverdue());
     }
 
+    @Test
+    public void isBefore() {
+        DueDate date = new DueDate("1-1-19 1200");
+        assertTrue(date.isBefore(date.valueMillis + 1));
+        assertFalse(date.isBefore(date.valueMillis));
+        assertFalse(date.isOverdueAt(date.valueMillis));
+        assertTrue(date.isOverdueAt(date.valueMillis + 1));
+    }
+
     @Test
     public void equals() {
         DueDate date1 = new DueDate("1-1-19");
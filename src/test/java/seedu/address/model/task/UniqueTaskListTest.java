@@ -3,19 +3,29 @@ package seedu.address.model.task;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_DUEDATE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_DUEDATE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LABEL_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PRIORITY_VALUE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PRIORITY_VALUE_BOB;
 import static seedu.address.testutil.TypicalTasks.A_TASK;
+import static seedu.address.testutil.TypicalTasks.B_TASK;
+import static seedu.address.testutil.TypicalTasks.C_TASK;
 import static seedu.address.testutil.TypicalTasks.Z_TASK;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.tag.Label;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 import seedu.address.testutil.TaskBuilder;
@@ -52,6 +62,13 @@ public class UniqueTaskListTest {
         assertTrue(uniqueTaskList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_taskWithSameNameAndPriorityValueOnlyInList_returnsTrue() {
+        uniqueTaskList.add(A_TASK);
+        Task rescheduledAlice = new TaskBuilder(A_TASK).withDueDate(VALID_DUEDATE_BOB).build();
+        assertTrue(uniqueTaskList.contains(rescheduledAlice));
+    }
+
     @Test
     public void add_nullTask_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -113,6 +130,25 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void setTask_editedTaskHasDifferentIdentity_targetNoLongerContained() {
+        uniqueTaskList.add(A_TASK);
+        uniqueTaskList.setTask(A_TASK, Z_TASK);
+        assertFalse(uniqueTaskList.contains(A_TASK));
+        assertTrue(uniqueTaskList.contains(Z_TASK));
+    }
+
+    @Test
+    public void setTask_editedTaskHasDifferentId_keepsIdOfTarget() {
+        Task dependantTask = new TaskBuilder().withDependency(A_TASK).build();
+        uniqueTaskList.add(A_TASK);
+        uniqueTaskList.add(dependantTask);
+        uniqueTaskList.setTask(A_TASK, Z_TASK);
+        Task storedTask = uniqueTaskList.getTaskById(A_TASK.getId());
+        assertEquals(Z_TASK, storedTask);
+        assertTrue(dependantTask.isDependentOn(storedTask));
+    }
+
     @Test
     public void setTask_editedTaskHasNonUniqueIdentity_throwsDuplicateTaskException() {
         uniqueTaskList.add(A_TASK);
@@ -121,6 +157,42 @@ public class UniqueTaskListTest {
         uniqueTaskList.setTask(A_TASK, Z_TASK);
     }
 
+    @Test
+    public void setTask_editedTaskSameAsTargetAndAnotherTask_throwsDuplicateTaskException() {
+        Task taskA = new TaskBuilder().withName("Shared").withDueDate(VALID_DUEDATE_AMY)
+                .withPriorityValue(VALID_PRIORITY_VALUE_AMY).build();
+        Task taskB = new TaskBuilder().withName("Shared").withDueDate(VALID_DUEDATE_BOB)
+                .withPriorityValue(VALID_PRIORITY_VALUE_BOB).build();
+        uniqueTaskList.add(taskA);
+        uniqueTaskList.add(taskB);
+
+        // same task as taskA by name and due date, and as taskB by name and priority value
+        Task editedTaskA = new TaskBuilder(taskA).withPriorityValue(VALID_PRIORITY_VALUE_BOB).build();
+        try {
+            uniqueTaskList.setTask(taskA, editedTaskA);
+            fail("The edited task should be a duplicate of taskB");
+        } catch (DuplicateTaskException dte) {
+            assertTrue(uniqueTaskList.contains(taskA));
+        }
+
+        uniqueTaskList.remove(taskB);
+        assertFalse(uniqueTaskList.contains(taskB));
+        assertTrue(uniqueTaskList.contains(taskA));
+        assertEquals(Collections.singletonList(taskA), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTask_afterEarlierTaskRemoved_taskReplacedInPlace() {
+        uniqueTaskList.add(A_TASK);
+        uniqueTaskList.add(B_TASK);
+        uniqueTaskList.add(C_TASK);
+        uniqueTaskList.remove(A_TASK);
+
+        Task editedTask = new TaskBuilder(C_TASK).withDescription(VALID_DESCRIPTION_BOB).build();
+        uniqueTaskList.setTask(C_TASK, editedTask);
+        assertEquals(Arrays.asList(B_TASK, editedTask), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullTask_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -141,6 +213,22 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void remove_existingTask_taskNoLongerContained() {
+        uniqueTaskList.add(A_TASK);
+        uniqueTaskList.remove(A_TASK);
+        assertFalse(uniqueTaskList.contains(A_TASK));
+        uniqueTaskList.add(A_TASK);
+        assertTrue(uniqueTaskList.contains(A_TASK));
+    }
+
+    @Test
+    public void getTaskById_idNotInList_throwsTaskNotFoundException() {
+        uniqueTaskList.add(A_TASK);
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.getTaskById(Z_TASK.getId());
+    }
+
     @Test
     public void setTasks_nullUniqueTaskList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -179,6 +267,72 @@ public class UniqueTaskListTest {
         uniqueTaskList.setTasks(listWithDuplicateTasks);
     }
 
+    @Test
+    public void hasUncompletedDependee_dependeeStatus_returnsWhetherDependeeUncompleted() {
+        Task dependant = new TaskBuilder(Z_TASK).withDependency(A_TASK).build();
+        uniqueTaskList.add(dependant);
+        // dependee not in list
+        assertFalse(uniqueTaskList.hasUncompletedDependee(dependant));
+
+        uniqueTaskList.add(A_TASK);
+        assertTrue(uniqueTaskList.hasUncompletedDependee(dependant));
+
+        uniqueTaskList.setTask(A_TASK, new TaskBuilder(A_TASK).withStatus(Status.COMPLETED).build());
+        assertFalse(uniqueTaskList.hasUncompletedDependee(dependant));
+    }
+
+    @Test
+    public void getIdsWithAnyKeyword_tasksChanged_indexKeptUpToDate() {
+        // A_TASK is named "Address CS2103 email", described as "Reply to Damith" and labelled "friends"
+        uniqueTaskList.add(A_TASK);
+        uniqueTaskList.add(Z_TASK);
+        Set<Long> idOfA = Collections.singleton(A_TASK.getId());
+        assertEquals(idOfA, uniqueTaskList.getIdsWithAnyKeyword(Collections.singletonList("EMAIL")));
+        assertEquals(idOfA, uniqueTaskList.getIdsWithAnyKeyword(Collections.singletonList("damith")));
+        assertEquals(idOfA, uniqueTaskList.getIdsWithAnyKeyword(Arrays.asList("friends", "nothing")));
+        assertTrue(uniqueTaskList.getIdsWithAnyKeyword(Collections.singletonList("emai")).isEmpty());
+
+        Task renamedA = new TaskBuilder(A_TASK).withName("Buy milk").build();
+        uniqueTaskList.setTask(A_TASK, renamedA);
+        assertTrue(uniqueTaskList.getIdsWithAnyKeyword(Collections.singletonList("email")).isEmpty());
+        assertEquals(idOfA, uniqueTaskList.getIdsWithAnyKeyword(Collections.singletonList("milk")));
+
+        uniqueTaskList.remove(renamedA);
+        assertTrue(uniqueTaskList.getIdsWithAnyKeyword(Collections.singletonList("milk")).isEmpty());
+    }
+
+    @Test
+    public void getTasksWithAnyLabel_tasksChanged_indexKeptUpToDate() {
+        // A_TASK is labelled "friends"
+        uniqueTaskList.add(A_TASK);
+        uniqueTaskList.add(Z_TASK);
+        Set<Label> friends = Collections.singleton(new Label("FRIENDS"));
+        assertEquals(Collections.singletonList(A_TASK), uniqueTaskList.getTasksWithAnyLabel(friends));
+
+        Task relabelledA = new TaskBuilder(A_TASK).withLabels("urgent").build();
+        Set<Label> urgent = Collections.singleton(new Label("urgent"));
+        uniqueTaskList.setTask(A_TASK, relabelledA);
+        assertTrue(uniqueTaskList.getTasksWithAnyLabel(friends).isEmpty());
+        assertEquals(Collections.singletonList(relabelledA), uniqueTaskList.getTasksWithAnyLabel(urgent));
+
+        uniqueTaskList.remove(relabelledA);
+        assertTrue(uniqueTaskList.getTasksWithAnyLabel(urgent).isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_listenerCalled_indexAlreadyUpdated() {
+        Task dependant = new TaskBuilder(Z_TASK).withDependency(A_TASK).build();
+        uniqueTaskList.add(A_TASK);
+        uniqueTaskList.add(dependant);
+        FilteredList<Task> notBlocked = new FilteredList<>(uniqueTaskList.asUnmodifiableObservableList(),
+            task -> !uniqueTaskList.hasUncompletedDependee(task));
+        assertEquals(Collections.singletonList(A_TASK), notBlocked);
+
+        Task completedA = new TaskBuilder(A_TASK).withStatus(Status.COMPLETED).build();
+        uniqueTaskList.setTasks(Arrays.asList(completedA, dependant));
+        assertEquals(Arrays.asList(completedA, dependant), notBlocked);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -5,7 +5,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.util.DateFormatUtil.isValidDate;
 import static seedu.address.model.util.DateFormatUtil.parseDate;
+import static seedu.address.model.util.DateFormatUtil.parseDateTime;
 
+import java.time.LocalDateTime;
+import java.time.Year;
 import java.util.Date;
 
 import org.junit.Test;
@@ -29,6 +32,23 @@ public class DateFormatUtilTest {
     }
 
 
+    @Test
+    public void parseDateTime_twoDigitYear_withinEightyYearsBeforeAndTwentyYearsAfterNow() {
+        int thisYear = Year.now().getValue();
+        String yearAfterNextNineteen = String.format("%02d", (thisYear + 19) % 100);
+        String yearEightyAgo = String.format("%02d", (thisYear - 80) % 100);
+        assertEquals(thisYear + 19, parseDateTime("01-01-" + yearAfterNextNineteen).getYear());
+        assertEquals(thisYear - 80, parseDateTime("01-01-" + yearEightyAgo).getYear());
+    }
+
+    @Test
+    public void parseDateTime_standardFormat_hourAndMinuteParsed() {
+        assertEquals(LocalDateTime.of(2019, 2, 3, 23, 59), parseDateTime("3-2-2019 2359"));
+        assertEquals(null, parseDateTime("3-2-2019 2400"));
+        assertEquals(null, parseDateTime("29-2-2019"));
+        assertEquals(null, parseDateTime("01-02-19 12pm"));
+    }
+
     @Test
     public void isValidDateFormat_validDateFormat_minimalFormat() {
         assertTrue(isValidDate("12-12-19"));
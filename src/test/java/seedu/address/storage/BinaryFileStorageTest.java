@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.ModeCommand;
+import seedu.address.model.TaskManager;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class BinaryFileStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableTaskManagerTest");
+    private static final Path TYPICAL_TASKS_FILE = TEST_DATA_FOLDER.resolve("typicalTasksTaskManager.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void loadDataFromSaveFile_savedData_sameData() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.bin");
+        TaskManager original = getTestTaskManager();
+
+        BinaryFileStorage.saveDataToFile(filePath, original);
+        assertTrue(BinaryFileStorage.isBinaryFile(filePath));
+        assertSameData(original, BinaryFileStorage.loadDataFromSaveFile(filePath));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_dueDatesInEveryFormat_writtenBackAsEntered() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.bin");
+        TaskManager original = new TaskManager();
+        original.setTasks(Arrays.asList(
+                new TaskBuilder().withName("A").withDueDate("1-2-18").build(),
+                new TaskBuilder().withName("B").withDueDate("01-02-2018").build(),
+                new TaskBuilder().withName("C").withDueDate("31-12-99 2359").build(),
+                new TaskBuilder().withName("D").withDueDate("5-06-1960 0001").build()));
+
+        BinaryFileStorage.saveDataToFile(filePath, original);
+        TaskManager taskManagerFromFile = BinaryFileStorage.loadDataFromSaveFile(filePath);
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTaskList().get(i).getDueDate().value,
+                    taskManagerFromFile.getTaskList().get(i).getDueDate().value);
+        }
+    }
+
+    @Test
+    public void open_savedData_tasksDecodedOneAtATime() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.bin");
+        TaskManager original = getTestTaskManager();
+        BinaryFileStorage.saveDataToFile(filePath, original);
+
+        BinarySnapshot snapshot = BinaryFileStorage.open(filePath);
+        assertEquals(original.getTaskList().size(), snapshot.getTaskCount());
+        int last = snapshot.getTaskCount() - 1;
+        assertEquals(original.getTaskList().get(last), snapshot.getTask(last));
+        assertEquals(original.getTaskList().get(1).getDependencies(), snapshot.getTask(1).getDependencies());
+    }
+
+    @Test
+    public void open_xmlFile_throwsDataConversionException() throws Exception {
+        assertFalse(BinaryFileStorage.isBinaryFile(TYPICAL_TASKS_FILE));
+        thrown.expect(DataConversionException.class);
+        BinaryFileStorage.open(TYPICAL_TASKS_FILE);
+    }
+
+    @Test
+    public void open_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.bin");
+        BinaryFileStorage.saveDataToFile(filePath, getTestTaskManager());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        BinaryFileStorage.loadDataFromSaveFile(filePath);
+    }
+
+    /**
+     * Returns the typical task manager, with a dependency and a game mode other than the default.
+     */
+    private TaskManager getTestTaskManager() {
+        TaskManager taskManager = getTypicalTaskManager();
+        Task dependee = taskManager.getTaskList().get(0);
+        Task dependant = taskManager.getTaskList().get(1);
+        taskManager.updateTask(dependant, dependant.concatDependency(dependee));
+        taskManager.updateGameMode(ModeCommand.DECREASING_MODE);
+        return taskManager;
+    }
+
+    /**
+     * Asserts that {@code actual} equals {@code expected}, including the ids and dependencies of its tasks.
+     */
+    private void assertSameData(TaskManager expected, TaskManager actual) {
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            Task expectedTask = expected.getTaskList().get(i);
+            Task actualTask = actual.getTaskList().get(i);
+            assertEquals(expectedTask.getId(), actualTask.getId());
+            assertEquals(expectedTask.getDependencies(), actualTask.getDependencies());
+        }
+        assertEquals(new XmlAdaptedGameManager(expected.getGameManager()),
+                new XmlAdaptedGameManager(actual.getGameManager()));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.H_TASK;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.TaskManager;
+
+public class BinaryTaskManagerStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path xmlFilePath;
+    private Path binaryFilePath;
+
+    @Before
+    public void setUp() {
+        xmlFilePath = testFolder.getRoot().toPath().resolve("TempTaskManager.xml");
+        binaryFilePath = BinaryTaskManagerStorage.getBinaryFilePath(xmlFilePath);
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "taskmanager.bin"),
+                BinaryTaskManagerStorage.getBinaryFilePath(Paths.get("data", "taskmanager.xml")));
+        assertEquals(Paths.get("data", "taskmanager.bin"),
+                BinaryTaskManagerStorage.getBinaryFilePath(Paths.get("data", "taskmanager")));
+    }
+
+    @Test
+    public void readTaskManager_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskManagerStorage(binaryFilePath, xmlFilePath).readTaskManager().isPresent());
+    }
+
+    @Test
+    public void readTaskManager_onlyXmlFileExists_xmlDataImportedAndXmlFileKept() throws Exception {
+        XmlStreamFileStorage.saveDataToFile(xmlFilePath, getTypicalTaskManager());
+        byte[] xmlBytes = Files.readAllBytes(xmlFilePath);
+        BinaryTaskManagerStorage storage = new BinaryTaskManagerStorage(binaryFilePath, xmlFilePath);
+
+        TaskManager taskManager = new TaskManager(storage.readTaskManager().get());
+        assertEquals(getTypicalTaskManager(), taskManager);
+
+        taskManager.addTask(H_TASK);
+        storage.saveTaskManager(taskManager);
+        assertTrue(BinaryFileStorage.isBinaryFile(binaryFilePath));
+        assertArrayEquals(xmlBytes, Files.readAllBytes(xmlFilePath));
+        assertEquals(taskManager, storage.readTaskManager().get());
+    }
+
+    @Test
+    public void readTaskManager_xmlDataInBinaryFile_readAsXml() throws Exception {
+        XmlStreamFileStorage.saveDataToFile(binaryFilePath, getTypicalTaskManager());
+        assertEquals(getTypicalTaskManager(), new BinaryTaskManagerStorage(binaryFilePath).readTaskManager().get());
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalTasks.A_TASK;
+import static seedu.address.testutil.TypicalTasks.B_TASK;
+import static seedu.address.testutil.TypicalTasks.C_TASK;
+import static seedu.address.testutil.TypicalTasks.D_TASK;
+import static seedu.address.testutil.TypicalTasks.H_TASK;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.ModeCommand;
+import seedu.address.model.TaskManager;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class JournalTaskManagerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.xml");
+        journalFilePath = JournalTaskManagerStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void read_missingSnapshotAndJournal_emptyResult() throws Exception {
+        assertFalse(new JournalTaskManagerStorage(filePath).readTaskManager().isPresent());
+    }
+
+    @Test
+    public void saveTaskManager_changesAfterFirstSave_onlyJournalWritten() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        TaskManager taskManager = getTypicalTaskManager();
+        storage.saveTaskManager(taskManager);
+        assertFalse(Files.exists(journalFilePath));
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        applyChanges(taskManager);
+        storage.saveTaskManager(taskManager);
+
+        // one record for each of the six changes, and the snapshot is left alone
+        assertEquals(6, Files.readAllLines(journalFilePath).size());
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertReadBackEquals(taskManager, new JournalTaskManagerStorage(filePath));
+    }
+
+    @Test
+    public void saveTaskManager_noChanges_nothingWritten() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        TaskManager taskManager = getTypicalTaskManager();
+        storage.saveTaskManager(taskManager);
+        storage.saveTaskManager(new TaskManager(taskManager));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveTaskManager_journalFull_compactedIntoSnapshot() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath, 5);
+        TaskManager taskManager = getTypicalTaskManager();
+        storage.saveTaskManager(taskManager);
+
+        applyChanges(taskManager);
+        storage.saveTaskManager(taskManager);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(taskManager, new XmlTaskManagerStorage(filePath).readTaskManager().get());
+    }
+
+    @Test
+    public void saveTaskManager_tasksReordered_compactedIntoSnapshot() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        TaskManager taskManager = getTypicalTaskManager();
+        storage.saveTaskManager(taskManager);
+
+        List<Task> reversedTasks = new ArrayList<>(taskManager.getTaskList());
+        Collections.reverse(reversedTasks);
+        taskManager.setTasks(reversedTasks);
+        storage.saveTaskManager(taskManager);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertReadBackEquals(taskManager, new JournalTaskManagerStorage(filePath));
+    }
+
+    @Test
+    public void readTaskManager_incompleteLastRecord_recordIgnored() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        TaskManager taskManager = getTypicalTaskManager();
+        storage.saveTaskManager(taskManager);
+        applyChanges(taskManager);
+        storage.saveTaskManager(taskManager);
+
+        Files.write(journalFilePath, "<record type=\"ADD\"><ta".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertReadBackEquals(taskManager, new JournalTaskManagerStorage(filePath));
+    }
+
+    @Test
+    public void saveTaskManager_afterIncompleteLastRecord_incompleteRecordDropped() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        TaskManager taskManager = getTypicalTaskManager();
+        storage.saveTaskManager(taskManager);
+        applyChanges(taskManager);
+        storage.saveTaskManager(taskManager);
+
+        Files.write(journalFilePath, "<record type=\"ADD\"><ta".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        taskManager.removeTask(taskManager.getTaskList().get(0));
+        storage.saveTaskManager(taskManager);
+
+        assertEquals(7, Files.readAllLines(journalFilePath).size());
+        assertReadBackEquals(taskManager, new JournalTaskManagerStorage(filePath));
+    }
+
+    @Test
+    public void readTaskManager_invalidRecord_throwsDataConversionException() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        storage.saveTaskManager(getTypicalTaskManager());
+        Files.write(journalFilePath, "not a record\n<record type=\"DELETE\"/>\n".getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalTaskManagerStorage(filePath).readTaskManager();
+    }
+
+    @Test
+    public void readTaskManager_journalAlreadyInSnapshot_sameData() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        TaskManager taskManager = getTypicalTaskManager();
+        storage.saveTaskManager(taskManager);
+        applyChanges(taskManager);
+        storage.saveTaskManager(taskManager);
+
+        // as left by a compaction that wrote the snapshot but did not get to delete the journal
+        new XmlTaskManagerStorage(filePath).saveTaskManager(taskManager);
+        assertReadBackEquals(taskManager, new JournalTaskManagerStorage(filePath));
+    }
+
+    /**
+     * Adds, edits, completes and deletes a task, adds a dependency and changes the game mode of {@code taskManager}.
+     */
+    private void applyChanges(TaskManager taskManager) {
+        taskManager.addTask(H_TASK);
+        taskManager.updateTask(A_TASK, new TaskBuilder(A_TASK).withDescription("Reply to the whole team").build());
+        taskManager.updateTask(C_TASK, new TaskBuilder(C_TASK).withStatus(Status.COMPLETED).build());
+        taskManager.updateTask(D_TASK, D_TASK.concatDependency(H_TASK));
+        taskManager.removeTask(B_TASK);
+        taskManager.updateGameMode(ModeCommand.DECREASING_MODE);
+    }
+
+    /**
+     * Asserts that reading from {@code storage} gives {@code expected}, including the dependencies of its tasks.
+     */
+    private void assertReadBackEquals(TaskManager expected, JournalTaskManagerStorage storage) throws Exception {
+        TaskManager actual = new TaskManager(storage.readTaskManager().get());
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            Task expectedTask = expected.getTaskList().get(i);
+            Task actualTask = actual.getTaskList().get(i);
+            assertEquals(expectedTask.getId(), actualTask.getId());
+            assertEquals(expectedTask.getDependencies(), actualTask.getDependencies());
+        }
+        assertEquals(new XmlAdaptedGameManager(expected.getGameManager()),
+                new XmlAdaptedGameManager(actual.getGameManager()));
+    }
+}
@@ -1,13 +1,19 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskManager;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -16,9 +22,11 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.TaskManagerChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.SaveStatusChangedEvent;
 import seedu.address.model.ReadOnlyTaskManager;
 import seedu.address.model.TaskManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -78,9 +86,84 @@ public class StorageManagerTest {
     public void handleTaskManagerChangedEvent_exceptionThrown_eventRaised() {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlTaskManagerStorageExceptionThrowingStub(Paths.get("dummy")),
-                                             new JsonUserPrefsStorage(Paths.get("dummy")));
+                                             new JsonUserPrefsStorage(Paths.get("dummy")),
+                                             StorageManager.DEFAULT_SAVE_DELAY_MILLIS, Runnable::run);
         storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(new TaskManager()));
-        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+        storage.flush();
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(DataSavingExceptionEvent.class));
+    }
+
+    @Test
+    public void handleTaskManagerChangedEvent_runtimeExceptionThrown_writeNoLongerPending() {
+        Storage storage = new StorageManager(new XmlTaskManagerStorage(Paths.get("dummy")) {
+            @Override
+            public void saveTaskManager(ReadOnlyTaskManager taskManager, Path filePath) {
+                throw new IllegalStateException("dummy exception");
+            }
+        }, new JsonUserPrefsStorage(Paths.get("dummy")), StorageManager.DEFAULT_SAVE_DELAY_MILLIS, Runnable::run);
+        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(new TaskManager()));
+        storage.flush();
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(DataSavingExceptionEvent.class));
+        SaveStatusChangedEvent savedStatus = (SaveStatusChangedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(0, savedStatus.pendingWrites);
+    }
+
+    @Test
+    public void handleTaskManagerChangedEvent_exceptionThrown_eventRaisedOnEventThread() {
+        List<Runnable> eventThread = new ArrayList<>();
+        Storage storage = new StorageManager(new XmlTaskManagerStorageExceptionThrowingStub(Paths.get("dummy")),
+                                             new JsonUserPrefsStorage(Paths.get("dummy")),
+                                             StorageManager.DEFAULT_SAVE_DELAY_MILLIS, eventThread::add);
+        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(new TaskManager()));
+        storage.flush();
+        assertFalse(eventsCollectorRule.eventsCollector.hasCollected(DataSavingExceptionEvent.class));
+
+        eventThread.forEach(Runnable::run);
+        assertTrue(eventsCollectorRule.eventsCollector.hasCollected(DataSavingExceptionEvent.class));
+        SaveStatusChangedEvent savedStatus = (SaveStatusChangedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(0, savedStatus.pendingWrites);
+    }
+
+    @Test
+    public void handleTaskManagerChangedEvent_burstOfChanges_latestStateSavedOnce() throws Exception {
+        WriteCountingXmlTaskManagerStorage taskManagerStorage =
+                new WriteCountingXmlTaskManagerStorage(getTempFilePath("burst"));
+        // Long enough for no write to start before the flush
+        Storage storage = new StorageManager(taskManagerStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                TimeUnit.MINUTES.toMillis(1), Runnable::run);
+
+        TaskManager taskManager = new TaskManager();
+        for (Task task : getTypicalTasks()) {
+            taskManager.addTask(task);
+            storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(taskManager));
+        }
+        SaveStatusChangedEvent pendingStatus = (SaveStatusChangedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(getTypicalTasks().size(), pendingStatus.pendingWrites);
+
+        storage.flush();
+        assertEquals(1, taskManagerStorage.writeCount);
+        assertEquals(taskManager, new TaskManager(storage.readTaskManager().get()));
+        SaveStatusChangedEvent savedStatus = (SaveStatusChangedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(0, savedStatus.pendingWrites);
+        assertNotEquals(SaveStatusChangedEvent.NO_WRITE_YET, savedStatus.lastWriteLatencyMillis);
+    }
+
+    @Test
+    public void handleTaskManagerChangedEvent_dataChangedAfterEvent_stateAtEventSaved() throws Exception {
+        Storage storage = new StorageManager(new XmlTaskManagerStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), TimeUnit.MINUTES.toMillis(1), Runnable::run);
+        TaskManager taskManager = getTypicalTaskManager();
+        TaskManager expected = new TaskManager(taskManager);
+        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(taskManager));
+
+        // not followed by an event, so not part of the state to be saved
+        taskManager.removeTask(taskManager.getTaskList().get(0));
+        storage.flush();
+        assertEquals(expected, new TaskManager(storage.readTaskManager().get()));
     }
 
 
@@ -98,4 +181,21 @@ public class StorageManagerTest {
             throw new IOException("dummy exception");
         }
     }
+
+    /**
+     * A Stub class that counts the number of times the save method is called
+     */
+    class WriteCountingXmlTaskManagerStorage extends XmlTaskManagerStorage {
+        private int writeCount = 0;
+
+        public WriteCountingXmlTaskManagerStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaskManager(ReadOnlyTaskManager taskManager, Path filePath) throws IOException {
+            writeCount++;
+            super.saveTaskManager(taskManager, filePath);
+        }
+    }
 }
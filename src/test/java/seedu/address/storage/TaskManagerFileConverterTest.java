@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.TypicalTasks;
+
+public class TaskManagerFileConverterTest {
+
+    private static final Path TYPICAL_TASKS_FILE = Paths.get("src", "test", "data", "XmlSerializableTaskManagerTest",
+            "typicalTasksTaskManager.xml");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameData() throws Exception {
+        Path binaryFile = testFolder.getRoot().toPath().resolve("TempTaskManager.bin");
+        Path xmlFile = testFolder.getRoot().toPath().resolve("TempTaskManager.xml");
+
+        TaskManagerFileConverter.convert(TYPICAL_TASKS_FILE, binaryFile);
+        assertTrue(BinaryFileStorage.isBinaryFile(binaryFile));
+        assertEquals(TypicalTasks.getTypicalTaskManager(), BinaryFileStorage.loadDataFromSaveFile(binaryFile));
+
+        TaskManagerFileConverter.convert(binaryFile, xmlFile);
+        assertFalse(BinaryFileStorage.isBinaryFile(xmlFile));
+        assertEquals(TypicalTasks.getTypicalTaskManager(), XmlStreamFileStorage.loadDataFromSaveFile(xmlFile));
+    }
+}
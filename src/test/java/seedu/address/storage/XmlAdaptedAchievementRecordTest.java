@@ -63,10 +63,10 @@ public class XmlAdaptedAchievementRecordTest {
         Calendar date = new GregorianCalendar();
         date.set(Calendar.HOUR_OF_DAY, 0);
         date.set(Calendar.MINUTE, 0);
-        String today = DateFormatUtil.FORMAT_STANDARD.format(date.getTime());
+        String today = DateFormatUtil.formatDate(date.getTime(), DateFormatUtil.FORMAT_STANDARD);
 
         date.add(Calendar.DAY_OF_MONTH, 7);
-        String sevenDaysLater = DateFormatUtil.FORMAT_STANDARD.format(date.getTime());
+        String sevenDaysLater = DateFormatUtil.formatDate(date.getTime(), DateFormatUtil.FORMAT_STANDARD);
 
         XmlAdaptedAchievementRecord record = new XmlAchievementRecordBuilder()
                 .withNextDayBreakPoint(today)
@@ -80,7 +80,7 @@ public class XmlAdaptedAchievementRecordTest {
         date.set(Calendar.MINUTE, 0);
 
         date.add(Calendar.DAY_OF_MONTH, -1);
-        String ytd = DateFormatUtil.FORMAT_STANDARD.format(date.getTime());
+        String ytd = DateFormatUtil.formatDate(date.getTime(), DateFormatUtil.FORMAT_STANDARD);
 
         record = new XmlAchievementRecordBuilder()
                 .withNextDayBreakPoint(today)
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -12,6 +13,8 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.TaskManager;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TypicalTasks;
 
 public class XmlSerializableTaskManagerTest {
@@ -20,6 +23,10 @@ public class XmlSerializableTaskManagerTest {
     private static final Path TYPICAL_TASKS_FILE = TEST_DATA_FOLDER.resolve("typicalTasksTaskManager.xml");
     private static final Path INVALID_TASK_FILE = TEST_DATA_FOLDER.resolve("invalidTaskManager.xml");
     private static final Path DUPLICATE_TASK_FILE = TEST_DATA_FOLDER.resolve("duplicateTaskTaskManager.xml");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdTaskManager.xml");
+    private static final Path LEGACY_HASH_FILE = TEST_DATA_FOLDER.resolve("legacyHashTaskManager.xml");
+    // Enough tasks for them to be converted in several chunks
+    private static final int MANY_TASKS_COUNT = 3000;
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -33,6 +40,19 @@ public class XmlSerializableTaskManagerTest {
         assertEquals(taskManagerFromFile, typicalTasksTaskManager);
     }
 
+    @Test
+    public void toModelType_manyTasks_convertedInOrder() throws Exception {
+        TaskManager taskManager = new TaskManager();
+        for (int i = 0; i < MANY_TASKS_COUNT; i++) {
+            taskManager.addTask(new TaskBuilder().withName("Task " + i).build());
+        }
+        TaskManager convertedTaskManager = new XmlSerializableTaskManager(taskManager).toModelType();
+        assertEquals(taskManager, convertedTaskManager);
+        for (int i = 0; i < MANY_TASKS_COUNT; i++) {
+            assertEquals(taskManager.getTaskList().get(i).getId(), convertedTaskManager.getTaskList().get(i).getId());
+        }
+    }
+
     @Test
     public void toModelType_invalidTaskFile_throwsIllegalValueException() throws Exception {
         XmlSerializableTaskManager dataFromFile = XmlUtil.getDataFromFile(INVALID_TASK_FILE,
@@ -50,4 +70,25 @@ public class XmlSerializableTaskManagerTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        XmlSerializableTaskManager dataFromFile = XmlUtil.getDataFromFile(DUPLICATE_ID_FILE,
+                XmlSerializableTaskManager.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableTaskManager.MESSAGE_DUPLICATE_TASK);
+        dataFromFile.toModelType();
+    }
+
+    @Test
+    public void toModelType_legacyHashDependencies_migratedToIds() throws Exception {
+        XmlSerializableTaskManager dataFromFile = XmlUtil.getDataFromFile(LEGACY_HASH_FILE,
+                XmlSerializableTaskManager.class);
+        TaskManager taskManagerFromFile = dataFromFile.toModelType();
+        Task dependee = taskManagerFromFile.getTaskList().get(0);
+        Task dependant = taskManagerFromFile.getTaskList().get(1);
+        assertTrue(dependant.isDependentOn(dependee));
+        // dependency to a task that is not in the file is dropped
+        assertEquals(1, (int) dependant.getDependencies().getDependencyCount());
+    }
+
 }
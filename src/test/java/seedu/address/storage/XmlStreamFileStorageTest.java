@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskManager;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.ModeCommand;
+import seedu.address.model.TaskManager;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+import seedu.address.testutil.TypicalTasks;
+
+public class XmlStreamFileStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableTaskManagerTest");
+    private static final Path TYPICAL_TASKS_FILE = TEST_DATA_FOLDER.resolve("typicalTasksTaskManager.xml");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdTaskManager.xml");
+    private static final Path LEGACY_HASH_FILE = TEST_DATA_FOLDER.resolve("legacyHashTaskManager.xml");
+    private static final Path NOT_XML_FILE = Paths.get("src", "test", "data", "XmlTaskManagerStorageTest",
+            "NotXmlFormatAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void loadDataFromSaveFile_typicalTasksFile_success() throws Exception {
+        TaskManager taskManagerFromFile = XmlStreamFileStorage.loadDataFromSaveFile(TYPICAL_TASKS_FILE);
+        assertEquals(TypicalTasks.getTypicalTaskManager(), taskManagerFromFile);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_duplicateIds_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableTaskManager.MESSAGE_DUPLICATE_TASK);
+        XmlStreamFileStorage.loadDataFromSaveFile(DUPLICATE_ID_FILE);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(NOT_XML_FILE);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_legacyHashDependencies_migratedToIds() throws Exception {
+        TaskManager taskManagerFromFile = XmlStreamFileStorage.loadDataFromSaveFile(LEGACY_HASH_FILE);
+        Task dependee = taskManagerFromFile.getTaskList().get(0);
+        Task dependant = taskManagerFromFile.getTaskList().get(1);
+        assertTrue(dependant.isDependentOn(dependee));
+    }
+
+    @Test
+    public void saveDataToFile_readByJaxb_sameData() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.xml");
+        TaskManager original = getTestTaskManager();
+
+        XmlStreamFileStorage.saveDataToFile(filePath, original);
+        assertSameData(original, XmlFileStorage.loadDataFromSaveFile(filePath).toModelType());
+    }
+
+    @Test
+    public void loadDataFromSaveFile_savedByJaxb_sameData() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.xml");
+        TaskManager original = getTestTaskManager();
+
+        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableTaskManager(original));
+        assertSameData(original, XmlStreamFileStorage.loadDataFromSaveFile(filePath));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_missingFile_throwsNoSuchFileException() throws Exception {
+        thrown.expect(NoSuchFileException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(testFolder.getRoot().toPath().resolve("Missing.xml"));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_emptyFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.newFile("Empty.xml").toPath();
+        thrown.expect(DataConversionException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(filePath);
+    }
+
+    @Test
+    public void saveDataToFile_largerThanWriteBuffer_readByJaxb() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.xml");
+        TaskManager original = getManyTasksTaskManager();
+
+        XmlStreamFileStorage.saveDataToFile(filePath, original);
+        assertTrue(Files.size(filePath) > 64 * 1024);
+        assertSameData(original, XmlFileStorage.loadDataFromSaveFile(filePath).toModelType());
+    }
+
+    @Test
+    public void loadDataFromSaveFile_moreTasksThanOneConversionChunk_sameData() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskManager.xml");
+        TaskManager original = getManyTasksTaskManager();
+
+        XmlStreamFileStorage.saveDataToFile(filePath, original);
+        assertSameData(original, XmlStreamFileStorage.loadDataFromSaveFile(filePath));
+    }
+
+    /**
+     * Returns a task manager with enough tasks to be converted in several chunks, and for its file to be many times
+     * the size of the write buffer.
+     */
+    private TaskManager getManyTasksTaskManager() {
+        TaskManager taskManager = new TaskManager();
+        for (int i = 0; i < 2000; i++) {
+            taskManager.addTask(new TaskBuilder().withName("Task " + i).build());
+        }
+        return taskManager;
+    }
+
+    /**
+     * Returns the typical task manager, with a dependency and a game mode other than the default.
+     */
+    private TaskManager getTestTaskManager() {
+        TaskManager taskManager = getTypicalTaskManager();
+        Task dependee = taskManager.getTaskList().get(0);
+        Task dependant = taskManager.getTaskList().get(1);
+        taskManager.updateTask(dependant, dependant.concatDependency(dependee));
+        taskManager.updateGameMode(ModeCommand.DECREASING_MODE);
+        return taskManager;
+    }
+
+    /**
+     * Asserts that {@code actual} equals {@code expected}, including the ids and dependencies of its tasks.
+     */
+    private void assertSameData(TaskManager expected, TaskManager actual) {
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            Task expectedTask = expected.getTaskList().get(i);
+            Task actualTask = actual.getTaskList().get(i);
+            assertEquals(expectedTask.getId(), actualTask.getId());
+            assertEquals(expectedTask.getDependencies(), actualTask.getDependencies());
+        }
+        assertEquals(new XmlAdaptedGameManager(expected.getGameManager()),
+                new XmlAdaptedGameManager(actual.getGameManager()));
+    }
+}
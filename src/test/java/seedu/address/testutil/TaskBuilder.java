@@ -23,6 +23,11 @@ public class TaskBuilder {
     public static final String DEFAULT_PRIORITY_VALUE = "2"; // Setting to 1 clashes with A_TASK
     public static final String DEFAULT_DESCRIPTION = "123, Jurong West Ave 6, #08-111";
 
+    // Id given to the next task built without one, so that tasks built for a test can depend on each other without
+    // first being added to a task manager
+    private static long nextId = 1;
+
+    private Long id;
     private Name name;
     private DueDate dueDate;
     private PriorityValue priorityValue;
@@ -45,13 +50,22 @@ public class TaskBuilder {
      * Initializes the TaskBuilder with the data of {@code taskToCopy}.
      */
     public TaskBuilder(Task taskToCopy) {
+        id = taskToCopy.getId();
         name = taskToCopy.getName();
         dueDate = taskToCopy.getDueDate();
         priorityValue = taskToCopy.getPriorityValue();
         description = taskToCopy.getDescription();
         labels = new HashSet<>(taskToCopy.getLabels());
         status = taskToCopy.getStatus();
-        dependencies = new Dependencies(taskToCopy.getDependencies().getHashes());
+        dependencies = new Dependencies(taskToCopy.getDependencies().getIds());
+    }
+
+    /**
+     * Sets the id of the {@code Task} that we are building.
+     */
+    public TaskBuilder withId(long id) {
+        this.id = id;
+        return this;
     }
 
     /**
@@ -110,8 +124,12 @@ public class TaskBuilder {
         return this;
     }
 
+    /**
+     * Builds the {@code Task}, keeping the id set or copied from another task, if any, or giving it a new id.
+     */
     public Task build() {
-        return new Task(name, dueDate, priorityValue, description, labels, status, dependencies);
+        long taskId = id == null ? nextId++ : id;
+        return new Task(taskId, name, dueDate, priorityValue, description, labels, status, dependencies);
     }
 
 }
@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.EventsUtil.postNow;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_PENDING;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_UPDATED;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
@@ -19,6 +21,7 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import seedu.address.commons.events.model.TaskManagerChangedEvent;
+import seedu.address.commons.events.storage.SaveStatusChangedEvent;
 import seedu.address.model.TaskManager;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -64,6 +67,20 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void display_saveStatus() {
+        // initial state
+        assertEquals(String.format(SAVE_STATUS_PENDING, 0), statusBarFooterHandle.getSaveStatus());
+
+        // changes waiting to be saved
+        postNow(new SaveStatusChangedEvent(3, SaveStatusChangedEvent.NO_WRITE_YET));
+        assertEquals(String.format(SAVE_STATUS_PENDING, 3), statusBarFooterHandle.getSaveStatus());
+
+        // after a write
+        postNow(new SaveStatusChangedEvent(0, 42));
+        assertEquals(String.format(SAVE_STATUS_UPDATED, 0, 42), statusBarFooterHandle.getSaveStatus());
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
@@ -9,6 +9,8 @@ import org.junit.Test;
 
 import guitests.guihandles.TaskCardHandle;
 
+import seedu.address.model.task.DueDate;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.TaskBuilder;
 
@@ -18,24 +20,39 @@ public class TaskCardTest extends GuiUnitTest {
     public void display() {
         // no labels
         Task taskWithNoLabels = new TaskBuilder().withLabels(new String[0]).build();
-        TaskCard taskCard = new TaskCard(taskWithNoLabels, 1);
+        TaskCard taskCard = new TaskCard(taskWithNoLabels, 1, taskWithNoLabels.getDueDate());
         uiPartRule.setUiPart(taskCard);
         assertCardDisplay(taskCard, taskWithNoLabels, 1);
 
         // with labels
         Task taskWithLabels = new TaskBuilder().build();
-        taskCard = new TaskCard(taskWithLabels, 2);
+        taskCard = new TaskCard(taskWithLabels, 2, taskWithLabels.getDueDate());
         uiPartRule.setUiPart(taskCard);
         assertCardDisplay(taskCard, taskWithLabels, 2);
     }
 
+    @Test
+    public void display_effectiveDueDate() {
+        Task task = new TaskBuilder().withDueDate("01-12-19").build();
+        DueDate effectiveDueDate = new DueDate("01-11-19");
+        TaskCard taskCard = new TaskCard(task, 1, effectiveDueDate);
+        uiPartRule.setUiPart(taskCard);
+        assertEquals(effectiveDueDate.value, new TaskCardHandle(taskCard.getRoot()).getEffectiveDueDate());
+
+        // completed task -> effective due date left blank
+        Task completedTask = new TaskBuilder(task).withStatus(Status.COMPLETED).build();
+        taskCard = new TaskCard(completedTask, 1, effectiveDueDate);
+        uiPartRule.setUiPart(taskCard);
+        assertEquals("", new TaskCardHandle(taskCard.getRoot()).getEffectiveDueDate());
+    }
+
     @Test
     public void equals() {
         Task task = new TaskBuilder().build();
-        TaskCard taskCard = new TaskCard(task, 0);
+        TaskCard taskCard = new TaskCard(task, 0, task.getDueDate());
 
         // same task, same index -> returns true
-        TaskCard copy = new TaskCard(task, 0);
+        TaskCard copy = new TaskCard(task, 0, task.getDueDate());
         assertTrue(taskCard.equals(copy));
 
         // same object -> returns true
@@ -49,10 +66,10 @@ public class TaskCardTest extends GuiUnitTest {
 
         // different task, same index -> returns false
         Task differentTask = new TaskBuilder().withName("differentName").build();
-        assertFalse(taskCard.equals(new TaskCard(differentTask, 0)));
+        assertFalse(taskCard.equals(new TaskCard(differentTask, 0, differentTask.getDueDate())));
 
         // same task, different index -> returns false
-        assertFalse(taskCard.equals(new TaskCard(task, 1)));
+        assertFalse(taskCard.equals(new TaskCard(task, 1, task.getDueDate())));
     }
 
     /**
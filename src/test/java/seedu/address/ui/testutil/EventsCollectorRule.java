@@ -76,6 +76,13 @@ public class EventsCollectorRule implements TestRule {
             return events.get(events.size() - 1);
         }
 
+        /**
+         * Returns true if the collector received an event of the given class
+         */
+        public boolean hasCollected(Class<? extends BaseEvent> eventClass) {
+            return events.stream().anyMatch(eventClass::isInstance);
+        }
+
         /**
          * Returns true if the collector did not receive any events
          */